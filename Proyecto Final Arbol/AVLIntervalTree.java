@@ -0,0 +1,190 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árbol de intervalos que usa el mismo balanceo AVL que AVLTree (ArbolAVLBase).
+ * Los nodos se ordenan por inicio (y fin) del intervalo, y cada uno guarda el
+ * mayor fin de su subárbol; ese máximo se mantiene en las rotaciones y permite
+ * descartar ramas completas. Una búsqueda de solapamiento que devuelve k
+ * intervalos cuesta O(min(n, k log n)) en el peor caso: la poda por fin máximo
+ * solo descarta los subárboles que terminan antes de la consulta, así que cada
+ * resultado puede requerir su propio camino de O(log n) nodos.
+ */
+public class AVLIntervalTree extends ArbolAVLBase<NodoIntervalo> {
+    NodoIntervalo raiz; // Raíz del árbol
+    private int tamano; // Número de intervalos almacenados
+    
+    /**
+     * Constructor para un árbol de intervalos vacío
+     */
+    public AVLIntervalTree() {
+        raiz = null;
+    }
+    
+    /**
+     * Actualiza el fin máximo de un nodo a partir del de sus hijos
+     * @param nodo El nodo a actualizar
+     */
+    @Override
+    void actualizar(NodoIntervalo nodo) {
+        long finMaximo = nodo.intervalo.getFin();
+        if (nodo.izquierda != null && nodo.izquierda.finMaximo > finMaximo) {
+            finMaximo = nodo.izquierda.finMaximo;
+        }
+        if (nodo.derecha != null && nodo.derecha.finMaximo > finMaximo) {
+            finMaximo = nodo.derecha.finMaximo;
+        }
+        nodo.finMaximo = finMaximo;
+    }
+    
+    /**
+     * Método público para insertar el intervalo [inicio, fin]
+     * @param inicio Extremo inferior (inclusivo)
+     * @param fin Extremo superior (inclusivo)
+     * @return true si se insertó, false si el intervalo ya existía
+     * @throws IllegalArgumentException si inicio > fin
+     */
+    public boolean insertar(long inicio, long fin) {
+        int tamanoAnterior = tamano;
+        raiz = insertar(raiz, new Intervalo(inicio, fin));
+        return tamano > tamanoAnterior;
+    }
+    
+    /**
+     * Método recursivo para insertar un intervalo en el árbol y balancearlo
+     * @param nodo El nodo raíz del subárbol donde se inserta
+     * @param intervalo El intervalo a insertar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoIntervalo insertar(NodoIntervalo nodo, Intervalo intervalo) {
+        if (nodo == null) {
+            tamano++;
+            return new NodoIntervalo(intervalo);
+        }
+        
+        int comparacion = intervalo.compareTo(nodo.intervalo);
+        if (comparacion < 0) {
+            nodo.izquierda = insertar(nodo.izquierda, intervalo);
+        } else if (comparacion > 0) {
+            nodo.derecha = insertar(nodo.derecha, intervalo);
+        } else {
+            // Intervalos duplicados no se permiten (retornar el mismo nodo)
+            return nodo;
+        }
+        
+        return balancear(nodo);
+    }
+    
+    /**
+     * Método público para eliminar el intervalo [inicio, fin]
+     * @param inicio Extremo inferior
+     * @param fin Extremo superior
+     * @return true si el intervalo existía y se eliminó
+     */
+    public boolean eliminar(long inicio, long fin) {
+        if (inicio > fin) {
+            return false;
+        }
+        int tamanoAnterior = tamano;
+        raiz = eliminar(raiz, new Intervalo(inicio, fin));
+        return tamano < tamanoAnterior;
+    }
+    
+    /**
+     * Método recursivo para eliminar un intervalo y balancear el árbol
+     * @param nodo El nodo raíz del subárbol donde se elimina
+     * @param intervalo El intervalo a eliminar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoIntervalo eliminar(NodoIntervalo nodo, Intervalo intervalo) {
+        if (nodo == null) {
+            return null; // Intervalo no encontrado
+        }
+        
+        int comparacion = intervalo.compareTo(nodo.intervalo);
+        if (comparacion < 0) {
+            nodo.izquierda = eliminar(nodo.izquierda, intervalo);
+        } else if (comparacion > 0) {
+            nodo.derecha = eliminar(nodo.derecha, intervalo);
+        } else {
+            // Caso 1: Nodo hoja o con un solo hijo
+            if (nodo.izquierda == null) {
+                tamano--;
+                return nodo.derecha;
+            } else if (nodo.derecha == null) {
+                tamano--;
+                return nodo.izquierda;
+            }
+            
+            // Caso 2: Nodo con dos hijos, se reemplaza por el sucesor inorden
+            NodoIntervalo sucesor = nodo.derecha;
+            while (sucesor.izquierda != null) {
+                sucesor = sucesor.izquierda;
+            }
+            nodo.intervalo = sucesor.intervalo;
+            nodo.derecha = eliminar(nodo.derecha, sucesor.intervalo);
+        }
+        
+        return balancear(nodo);
+    }
+    
+    /**
+     * Busca todos los intervalos que contienen un punto (stabbing query)
+     * @param punto El punto a consultar
+     * @return Los intervalos que contienen el punto, ordenados por inicio
+     */
+    public List<Intervalo> buscarQueContienen(long punto) {
+        return buscarSolapados(punto, punto);
+    }
+    
+    /**
+     * Busca todos los intervalos que se solapan con [inicio, fin]
+     * @param inicio Extremo inferior de la consulta
+     * @param fin Extremo superior de la consulta
+     * @return Los intervalos solapados, ordenados por inicio
+     * @throws IllegalArgumentException si inicio > fin
+     */
+    public List<Intervalo> buscarSolapados(long inicio, long fin) {
+        if (inicio > fin) {
+            throw new IllegalArgumentException("Intervalo inválido: [" + inicio + ", " + fin + "]");
+        }
+        List<Intervalo> resultado = new ArrayList<>();
+        buscarSolapados(raiz, inicio, fin, resultado);
+        return resultado;
+    }
+    
+    /**
+     * Método recursivo para recolectar los intervalos solapados de un subárbol
+     * @param nodo La raíz del subárbol
+     * @param inicio Extremo inferior de la consulta
+     * @param fin Extremo superior de la consulta
+     * @param resultado Lista donde agregar los intervalos encontrados
+     */
+    private void buscarSolapados(NodoIntervalo nodo, long inicio, long fin, List<Intervalo> resultado) {
+        // Ningún intervalo del subárbol llega hasta el inicio de la consulta
+        if (nodo == null || nodo.finMaximo < inicio) {
+            return;
+        }
+        
+        buscarSolapados(nodo.izquierda, inicio, fin, resultado);
+        
+        // Este nodo y todo su subárbol derecho empiezan después de la consulta
+        if (nodo.intervalo.getInicio() > fin) {
+            return;
+        }
+        
+        if (nodo.intervalo.getFin() >= inicio) {
+            resultado.add(nodo.intervalo);
+        }
+        
+        buscarSolapados(nodo.derecha, inicio, fin, resultado);
+    }
+    
+    /**
+     * Obtiene el número de intervalos almacenados
+     * @return El número de intervalos
+     */
+    public int tamano() {
+        return tamano;
+    }
+}
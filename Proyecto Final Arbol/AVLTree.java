@@ -1,91 +1,102 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
 /**
  * Clase AVLTree implementa un árbol binario de búsqueda autobalanceable (AVL)
  */
-public class AVLTree {
+public class AVLTree extends ArbolAVLBase<Node> {
     Node raiz; // Raíz del árbol AVL
+    int modificaciones; // Contador de cambios estructurales (invalida cursores)
+    int tamano;         // Número de valores almacenados
+    private Node minimo; // Nodo con el valor mínimo (null si no se conoce)
+    private Node maximo; // Nodo con el valor máximo (null si no se conoce)
+    private final MonoidAgregado monoide; // Agregado por subárbol (null si no se usa)
+    private OyenteCambios oyente; // Receptor de cambios (null si no hay)
+    private List<Node> nodosModificados;     // Nodos cambiados desde la última exportación incremental
+    private List<Integer> valoresEliminados; // Valores eliminados desde la última exportación incremental
+    private ExportadorIncremental exportador; // Único consumidor de los cambios pendientes
+    private FiltroBloomContador filtro; // Filtro para descartar búsquedas fallidas (null si no se usa)
     private static final String NOMBRE_ARCHIVO = "prueba_de_arbol.dot";
+    private boolean visualizacionAutomatica = true; // Exportar e imprimir tras cada cambio
     
     /**
      * Constructor para un árbol AVL vacío
      */
     public AVLTree() {
         raiz = null;
+        monoide = null;
     }
     
     /**
-     * Obtiene la altura de un nodo (o 0 si es null)
-     * @param nodo El nodo cuya altura se desea obtener
-     * @return La altura del nodo, o 0 si el nodo es null
+     * Constructor para un árbol AVL vacío cuyos nodos mantienen el agregado
+     * de su subárbol, lo que permite consultas aggregate(lo, hi) en O(log n)
+     * @param monoide El monoide a mantener en cada nodo
      */
-    private int getAltura(Node nodo) {
-        if (nodo == null) {
-            return 0;
-        }
-        return nodo.altura;
+    public AVLTree(MonoidAgregado monoide) {
+        raiz = null;
+        this.monoide = monoide;
     }
     
     /**
-     * Calcula el factor de balance para un nodo
-     * @param nodo El nodo para calcular su factor de balance
-     * @return altura(izquierda) - altura(derecha)
+     * Mantiene el agregado y la marca de cambios de un nodo cuyos hijos cambiaron
+     * @param nodo El nodo actualizado
      */
-    private int getFactorBalance(Node nodo) {
-        if (nodo == null) {
-            return 0;
+    @Override
+    void actualizar(Node nodo) {
+        if (monoide != null) {
+            actualizarAgregado(nodo);
+        }
+        if (nodosModificados != null) {
+            marcarModificado(nodo);
         }
-        return getAltura(nodo.izquierda) - getAltura(nodo.derecha);
     }
     
     /**
-     * Actualiza la altura de un nodo basado en la altura de sus hijos
-     * @param nodo El nodo cuya altura se actualizará
+     * Recalcula el agregado de un nodo a partir del de sus hijos
+     * (solo para árboles creados con un monoide)
+     * @param nodo El nodo cuyo agregado se actualizará
      */
-    private void actualizarAltura(Node nodo) {
-        if (nodo != null) {
-            nodo.altura = Math.max(getAltura(nodo.izquierda), getAltura(nodo.derecha)) + 1;
+    void actualizarAgregado(Node nodo) {
+        long agregado = monoide.combinar(getAgregado(nodo.izquierda), monoide.valor(nodo.valor));
+        ((NodoAgregado) nodo).agregado = monoide.combinar(agregado, getAgregado(nodo.derecha));
+    }
+    
+    /**
+     * Obtiene el agregado de un subárbol (o la identidad si es null)
+     * @param nodo La raíz del subárbol
+     * @return El agregado del subárbol
+     */
+    private long getAgregado(Node nodo) {
+        if (nodo == null) {
+            return monoide.identidad();
         }
+        return ((NodoAgregado) nodo).agregado;
     }
     
     /**
-     * Realiza una rotación simple a la derecha
-     * @param y El nodo sobre el cual se realiza la rotación
-     * @return La nueva raíz del subárbol rotado
+     * Indica si el árbol mantiene un agregado por nodo
+     * @return true si se creó con un monoide
      */
-    private Node rotarDerecha(Node y) {
-        Node x = y.izquierda;
-        Node T2 = x.derecha;
-        
-        // Realizar rotación
-        x.derecha = y;
-        y.izquierda = T2;
-        
-        // Actualizar alturas
-        actualizarAltura(y);
-        actualizarAltura(x);
-        
-        // Retornar nueva raíz
-        return x;
+    boolean tieneAgregado() {
+        return monoide != null;
     }
     
     /**
-     * Realiza una rotación simple a la izquierda
-     * @param x El nodo sobre el cual se realiza la rotación
-     * @return La nueva raíz del subárbol rotado
+     * Crea un nodo hoja del tipo que corresponde a este árbol
+     * @param valor El valor del nodo
+     * @return Un Node, o un NodoAgregado si el árbol tiene monoide
      */
-    private Node rotarIzquierda(Node x) {
-        Node y = x.derecha;
-        Node T2 = y.izquierda;
-        
-        // Realizar rotación
-        y.izquierda = x;
-        x.derecha = T2;
-        
-        // Actualizar alturas
-        actualizarAltura(x);
-        actualizarAltura(y);
-        
-        // Retornar nueva raíz
-        return y;
+    Node crearNodo(int valor) {
+        if (monoide == null) {
+            return new Node(valor);
+        }
+        return new NodoAgregado(valor, monoide.valor(valor));
     }
     
     /**
@@ -93,9 +104,16 @@ public class AVLTree {
      * @param valor El valor a insertar
      */
     public void insertar(int valor) {
+        int tamanoAnterior = tamano;
         raiz = insertar(raiz, valor);
-        guardarDotAutomatico();
-        displayTree();
+        modificaciones++;
+        if (tamano > tamanoAnterior) {
+            notificarInsercion(valor);
+        }
+        if (visualizacionAutomatica) {
+            guardarDotAutomatico();
+            displayTree();
+        }
     }
     
     /**
@@ -107,7 +125,9 @@ public class AVLTree {
     private Node insertar(Node nodo, int valor) {
         // 1. Realizar inserción BST normal
         if (nodo == null) {
-            return new Node(valor);
+            Node nuevo = crearNodo(valor);
+            registrarInsercion(nuevo);
+            return nuevo;
         }
         
         if (valor < nodo.valor) {
@@ -174,9 +194,24 @@ public class AVLTree {
      * @param valor El valor a eliminar
      */
     public void eliminar(int valor) {
+        int tamanoAnterior = tamano;
         raiz = eliminar(raiz, valor);
-        guardarDotAutomatico();
-        displayTree();
+        modificaciones++;
+        if (tamano < tamanoAnterior) {
+            notificarEliminacion(valor);
+        }
+        
+        // Los extremos en caché se recalculan en el siguiente peek
+        if (minimo != null && valor == minimo.valor) {
+            minimo = null;
+        }
+        if (maximo != null && valor == maximo.valor) {
+            maximo = null;
+        }
+        if (visualizacionAutomatica) {
+            guardarDotAutomatico();
+            displayTree();
+        }
     }
     
     /**
@@ -203,9 +238,11 @@ public class AVLTree {
             
             // Caso 1: Nodo hoja o con un solo hijo
             if (nodo.izquierda == null) {
+                registrarEliminacion(nodo);
                 return nodo.derecha;
             } 
             else if (nodo.derecha == null) {
+                registrarEliminacion(nodo);
                 return nodo.izquierda;
             }
             
@@ -214,7 +251,10 @@ public class AVLTree {
             Node sucesor = nodoValorMinimo(nodo.derecha);
             
             // Copiar el valor del sucesor al nodo actual
-            nodo.valor = sucesor.valor;
+            if (valoresEliminados != null) {
+                valoresEliminados.add(nodo.valor);
+            }
+            nodo.copiarValor(sucesor);
             
             // Eliminar el sucesor
             nodo.derecha = eliminar(nodo.derecha, sucesor.valor);
@@ -264,7 +304,29 @@ public class AVLTree {
      * @return true si el valor existe, false en caso contrario
      */
     public boolean buscar(int valor) {
-        return buscar(raiz, valor);
+        // Si el filtro descarta el valor, no hace falta recorrer el árbol
+        if (filtro != null && !filtro.puedeContener(valor)) {
+            return false;
+        }
+        
+        boolean encontrado = buscar(raiz, valor);
+        if (filtro != null && !encontrado) {
+            filtro.registrarFalsoPositivo();
+        }
+        return encontrado;
+    }
+    
+    /**
+     * Obtiene el nodo que contiene un valor, sin pasar por el filtro
+     * @param valor El valor a buscar
+     * @return El nodo con ese valor, o null si no existe
+     */
+    Node buscarNodo(int valor) {
+        Node nodo = raiz;
+        while (nodo != null && nodo.valor != valor) {
+            nodo = valor < nodo.valor ? nodo.izquierda : nodo.derecha;
+        }
+        return nodo;
     }
     
     /**
@@ -289,6 +351,681 @@ public class AVLTree {
         }
     }
     
+    /**
+     * Calcula el agregado de las claves en el rango [lo, hi] en O(log n)
+     * @param lo Límite inferior (inclusivo)
+     * @param hi Límite superior (inclusivo)
+     * @return El agregado del rango, o la identidad si está vacío
+     * @throws IllegalStateException si el árbol se creó sin monoide
+     */
+    public long aggregate(int lo, int hi) {
+        if (monoide == null) {
+            throw new IllegalStateException("El árbol no tiene un monoide configurado");
+        }
+        return agregarRango(raiz, lo, hi);
+    }
+    
+    /**
+     * Método recursivo que baja hasta el primer nodo dentro del rango y
+     * combina el sufijo de su rama izquierda con el prefijo de la derecha
+     * @param nodo La raíz del subárbol
+     * @param lo Límite inferior (inclusivo)
+     * @param hi Límite superior (inclusivo)
+     * @return El agregado de las claves del subárbol dentro del rango
+     */
+    private long agregarRango(Node nodo, int lo, int hi) {
+        if (nodo == null || lo > hi) {
+            return monoide.identidad();
+        }
+        if (nodo.valor < lo) {
+            return agregarRango(nodo.derecha, lo, hi);
+        }
+        if (nodo.valor > hi) {
+            return agregarRango(nodo.izquierda, lo, hi);
+        }
+        long agregado = monoide.combinar(agregarDesde(nodo.izquierda, lo), monoide.valor(nodo.valor));
+        return monoide.combinar(agregado, agregarHasta(nodo.derecha, hi));
+    }
+    
+    /**
+     * Agregado de las claves >= lo de un subárbol (un solo camino hacia abajo)
+     * @param nodo La raíz del subárbol
+     * @param lo Límite inferior (inclusivo)
+     * @return El agregado del sufijo
+     */
+    private long agregarDesde(Node nodo, int lo) {
+        if (nodo == null) {
+            return monoide.identidad();
+        }
+        if (nodo.valor < lo) {
+            return agregarDesde(nodo.derecha, lo);
+        }
+        long agregado = monoide.combinar(agregarDesde(nodo.izquierda, lo), monoide.valor(nodo.valor));
+        return monoide.combinar(agregado, getAgregado(nodo.derecha));
+    }
+    
+    /**
+     * Agregado de las claves <= hi de un subárbol (un solo camino hacia abajo)
+     * @param nodo La raíz del subárbol
+     * @param hi Límite superior (inclusivo)
+     * @return El agregado del prefijo
+     */
+    private long agregarHasta(Node nodo, int hi) {
+        if (nodo == null) {
+            return monoide.identidad();
+        }
+        if (nodo.valor > hi) {
+            return agregarHasta(nodo.izquierda, hi);
+        }
+        long agregado = monoide.combinar(getAgregado(nodo.izquierda), monoide.valor(nodo.valor));
+        return monoide.combinar(agregado, agregarHasta(nodo.derecha, hi));
+    }
+    
+    /**
+     * Registra un nodo recién enlazado en el árbol: actualiza el tamaño y los
+     * extremos en caché
+     * @param nuevo El nodo insertado
+     */
+    void registrarInsercion(Node nuevo) {
+        tamano++;
+        if (nodosModificados != null) {
+            marcarModificado(nuevo);
+        }
+        if (minimo != null && nuevo.valor < minimo.valor) {
+            minimo = nuevo;
+        }
+        if (maximo != null && nuevo.valor > maximo.valor) {
+            maximo = nuevo;
+        }
+    }
+    
+    /**
+     * Propaga la inserción efectiva de un valor al filtro y al oyente, si existen
+     * @param valor El valor insertado
+     */
+    void notificarInsercion(int valor) {
+        if (filtro != null) {
+            if (tamano > filtro.getCapacidad()) {
+                // El filtro se llenó: se reconstruye con el doble de capacidad,
+                // conservando las métricas acumuladas
+                FiltroBloomContador anterior = filtro;
+                activarFiltro(anterior.getTasaFalsosPositivos());
+                filtro.heredarMetricas(anterior);
+            } else {
+                filtro.agregar(valor);
+            }
+        }
+        if (oyente != null) {
+            oyente.alInsertar(valor);
+        }
+    }
+    
+    /**
+     * Propaga la eliminación efectiva de un valor al filtro y al oyente, si existen
+     * @param valor El valor eliminado
+     */
+    void notificarEliminacion(int valor) {
+        if (filtro != null) {
+            filtro.quitar(valor);
+        }
+        if (oyente != null) {
+            oyente.alEliminar(valor);
+        }
+    }
+    
+    /**
+     * Registra un receptor de los cambios efectivos del árbol
+     * (inserciones, eliminaciones, polls e inserciones de cursores)
+     * @param oyente El receptor, o null para dejar de notificar
+     */
+    public void setOyenteCambios(OyenteCambios oyente) {
+        this.oyente = oyente;
+    }
+    
+    /**
+     * Activa (o reconstruye) un filtro de Bloom con contadores delante de
+     * buscar, para que las búsquedas de valores ausentes casi nunca recorran
+     * el árbol. Se dimensiona para el doble del tamaño actual (mínimo 1024,
+     * máximo Integer.MAX_VALUE) y se reconstruye automáticamente solo cuando
+     * el árbol supera esa capacidad; esa reconstrucción conserva las métricas.
+     * @param tasaFalsosPositivos Tasa de falsos positivos deseada (entre 0 y 1)
+     */
+    public void activarFiltro(double tasaFalsosPositivos) {
+        int capacidad = (int) Math.min(Integer.MAX_VALUE, Math.max(1024L, 2L * tamano));
+        FiltroBloomContador nuevo = new FiltroBloomContador(capacidad, tasaFalsosPositivos);
+        PrimitiveIterator.OfInt iterador = new IteradorInorden(raiz, false);
+        while (iterador.hasNext()) {
+            nuevo.agregar(iterador.nextInt());
+        }
+        filtro = nuevo;
+    }
+    
+    /**
+     * Desactiva el filtro de Bloom
+     */
+    public void desactivarFiltro() {
+        filtro = null;
+    }
+    
+    /**
+     * Obtiene el filtro de Bloom activo, con sus métricas de uso
+     * @return El filtro, o null si no está activado
+     */
+    public FiltroBloomContador getFiltro() {
+        return filtro;
+    }
+    
+    /**
+     * Crea un árbol perfectamente balanceado a partir de valores ordenados en O(n)
+     * @param valores Valores en orden estrictamente ascendente
+     * @return El árbol construido, sin visualización automática
+     * @throws IllegalArgumentException si los valores no están en orden estrictamente ascendente
+     */
+    public static AVLTree desdeOrdenados(int[] valores) {
+        for (int i = 1; i < valores.length; i++) {
+            if (valores[i - 1] >= valores[i]) {
+                throw new IllegalArgumentException("Los valores deben estar en orden estrictamente ascendente");
+            }
+        }
+        AVLTree arbol = new AVLTree();
+        arbol.setVisualizacionAutomatica(false);
+        arbol.raiz = arbol.construir(valores, 0, valores.length - 1);
+        arbol.tamano = valores.length;
+        return arbol;
+    }
+    
+    /**
+     * Método recursivo que construye un subárbol balanceado tomando el
+     * elemento central como raíz
+     * @param valores Valores ordenados
+     * @param desde Primer índice del tramo (inclusivo)
+     * @param hasta Último índice del tramo (inclusivo)
+     * @return La raíz del subárbol construido
+     */
+    private Node construir(int[] valores, int desde, int hasta) {
+        if (desde > hasta) {
+            return null;
+        }
+        int medio = (desde + hasta) >>> 1;
+        Node nodo = crearNodo(valores[medio]);
+        nodo.izquierda = construir(valores, desde, medio - 1);
+        nodo.derecha = construir(valores, medio + 1, hasta);
+        actualizarAltura(nodo);
+        return nodo;
+    }
+    
+    /**
+     * Registra un nodo desenlazado del árbol: actualiza el tamaño y, si hay
+     * seguimiento de cambios, anota su valor como eliminado
+     * @param nodo El nodo eliminado
+     */
+    private void registrarEliminacion(Node nodo) {
+        tamano--;
+        if (valoresEliminados != null) {
+            nodo.modificado = false; // Si estaba pendiente de exportar, ya no aplica
+            valoresEliminados.add(nodo.valor);
+        }
+    }
+    
+    /**
+     * Anota un nodo como cambiado (valor, hijos o altura) para la siguiente
+     * exportación incremental; no hace nada si no hay seguimiento de cambios
+     * @param nodo El nodo modificado
+     */
+    void marcarModificado(Node nodo) {
+        if (nodosModificados != null && !nodo.modificado) {
+            nodo.modificado = true;
+            nodosModificados.add(nodo);
+        }
+    }
+    
+    /**
+     * Activa el seguimiento de cambios para exportaciones incrementales.
+     * Todos los nodos actuales quedan marcados, de modo que la primera
+     * exportación sea completa.
+     */
+    void activarSeguimientoCambios() {
+        if (nodosModificados != null) {
+            return;
+        }
+        nodosModificados = new ArrayList<>();
+        valoresEliminados = new ArrayList<>();
+        marcarSubarbol(raiz);
+    }
+    
+    /**
+     * Método recursivo que marca como modificados todos los nodos de un subárbol
+     * @param nodo La raíz del subárbol
+     */
+    private void marcarSubarbol(Node nodo) {
+        if (nodo == null) {
+            return;
+        }
+        marcarModificado(nodo);
+        marcarSubarbol(nodo.izquierda);
+        marcarSubarbol(nodo.derecha);
+    }
+    
+    /**
+     * Entrega y reinicia la lista de nodos modificados
+     * @return Los nodos marcados desde la llamada anterior (pueden incluir
+     *         nodos ya eliminados, que tienen modificado == false)
+     */
+    List<Node> tomarNodosModificados() {
+        List<Node> resultado = nodosModificados;
+        nodosModificados = new ArrayList<>();
+        return resultado;
+    }
+    
+    /**
+     * Entrega y reinicia la lista de valores eliminados
+     * @return Los valores eliminados desde la llamada anterior
+     */
+    List<Integer> tomarValoresEliminados() {
+        List<Integer> resultado = valoresEliminados;
+        valoresEliminados = new ArrayList<>();
+        return resultado;
+    }
+    
+    /**
+     * Obtiene el número de valores almacenados en el árbol
+     * @return El número de valores
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Indica si el árbol no tiene valores (guarda para peek/poll, que lanzan
+     * NoSuchElementException sobre un árbol vacío)
+     * @return true si el árbol está vacío
+     */
+    public boolean estaVacio() {
+        return raiz == null;
+    }
+    
+    /**
+     * Obtiene el valor mínimo sin eliminarlo. O(1) mientras el mínimo
+     * en caché siga vigente.
+     * @return El valor mínimo
+     * @throws NoSuchElementException si el árbol está vacío
+     */
+    public int peekFirst() {
+        if (raiz == null) {
+            throw new NoSuchElementException("Árbol vacío");
+        }
+        if (minimo == null) {
+            minimo = nodoValorMinimo(raiz);
+        }
+        return minimo.valor;
+    }
+    
+    /**
+     * Obtiene el valor máximo sin eliminarlo. O(1) mientras el máximo
+     * en caché siga vigente.
+     * @return El valor máximo
+     * @throws NoSuchElementException si el árbol está vacío
+     */
+    public int peekLast() {
+        if (raiz == null) {
+            throw new NoSuchElementException("Árbol vacío");
+        }
+        if (maximo == null) {
+            maximo = nodoValorMaximo(raiz);
+        }
+        return maximo.valor;
+    }
+    
+    /**
+     * Elimina y retorna el valor mínimo con un único descenso
+     * @return El valor mínimo
+     * @throws NoSuchElementException si el árbol está vacío
+     */
+    public int pollFirst() {
+        int valor = peekFirst();
+        raiz = eliminarMinimo(raiz, null);
+        modificaciones++;
+        if (raiz == null) {
+            maximo = null;
+        }
+        notificarEliminacion(valor);
+        if (visualizacionAutomatica) {
+            guardarDotAutomatico();
+            displayTree();
+        }
+        return valor;
+    }
+    
+    /**
+     * Elimina y retorna el valor máximo con un único descenso
+     * @return El valor máximo
+     * @throws NoSuchElementException si el árbol está vacío
+     */
+    public int pollLast() {
+        int valor = peekLast();
+        raiz = eliminarMaximo(raiz, null);
+        modificaciones++;
+        if (raiz == null) {
+            minimo = null;
+        }
+        notificarEliminacion(valor);
+        if (visualizacionAutomatica) {
+            guardarDotAutomatico();
+            displayTree();
+        }
+        return valor;
+    }
+    
+    /**
+     * Método recursivo que elimina el nodo mínimo de un subárbol y lo balancea.
+     * Deja en caché el nuevo mínimo: el hijo derecho del nodo eliminado (que
+     * en un AVL es una hoja) o, si no tiene, su padre.
+     * @param nodo La raíz del subárbol
+     * @param padre El padre de nodo (null si es la raíz del árbol)
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private Node eliminarMinimo(Node nodo, Node padre) {
+        if (nodo.izquierda == null) {
+            minimo = (nodo.derecha != null) ? nodo.derecha : padre;
+            registrarEliminacion(nodo);
+            return nodo.derecha;
+        }
+        nodo.izquierda = eliminarMinimo(nodo.izquierda, nodo);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Método recursivo que elimina el nodo máximo de un subárbol y lo balancea.
+     * Deja en caché el nuevo máximo: el hijo izquierdo del nodo eliminado (que
+     * en un AVL es una hoja) o, si no tiene, su padre.
+     * @param nodo La raíz del subárbol
+     * @param padre El padre de nodo (null si es la raíz del árbol)
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private Node eliminarMaximo(Node nodo, Node padre) {
+        if (nodo.derecha == null) {
+            maximo = (nodo.izquierda != null) ? nodo.izquierda : padre;
+            registrarEliminacion(nodo);
+            return nodo.izquierda;
+        }
+        nodo.derecha = eliminarMaximo(nodo.derecha, nodo);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Encuentra el nodo con el valor máximo en un subárbol
+     * @param nodo La raíz del subárbol
+     * @return El nodo con el valor máximo
+     */
+    private Node nodoValorMaximo(Node nodo) {
+        Node actual = nodo;
+        
+        // El valor máximo estará en el nodo más a la derecha
+        while (actual.derecha != null) {
+            actual = actual.derecha;
+        }
+        
+        return actual;
+    }
+    
+    /**
+     * Elimina todos los valores del rango [lo, hi] dividiendo el árbol en dos
+     * cortes y uniendo los extremos, sin rebalancear clave por clave: el
+     * trabajo estructural es O(log n) y solo el recuento de los k valores
+     * eliminados (tamaño, filtro, seguimiento de cambios) es O(k).
+     * @param lo Límite inferior (inclusivo)
+     * @param hi Límite superior (inclusivo)
+     * @return El número de valores eliminados
+     */
+    public int removeRange(int lo, int hi) {
+        if (raiz == null || lo > hi) {
+            return 0;
+        }
+        
+        // 1. Cortar en lo: [< lo] (lo) [> lo]; y el resto en hi: [lo, hi) (hi) [> hi]
+        Node[] partes = dividir(raiz, lo);
+        Node menores = partes[0];
+        Node nodoLo = partes[1];
+        partes = dividir(partes[2], hi);
+        Node intermedios = partes[0];
+        Node nodoHi = partes[1];
+        Node mayores = partes[2];
+        
+        // 2. Unir lo que queda a ambos lados del rango
+        raiz = unir(menores, mayores);
+        modificaciones++;
+        
+        // 3. Dar de baja los nodos descartados
+        int eliminados = descartar(nodoLo) + descartar(nodoHi) + descartarSubarbol(intermedios);
+        if (eliminados > 0) {
+            minimo = null;
+            maximo = null;
+            if (oyente != null) {
+                oyente.alEliminarRango(lo, hi);
+            }
+        }
+        if (visualizacionAutomatica) {
+            guardarDotAutomatico();
+            displayTree();
+        }
+        return eliminados;
+    }
+    
+    /**
+     * Elimina todos los valores menores que k
+     * @param k Primer valor que se conserva
+     * @return El número de valores eliminados
+     */
+    public int headTruncate(int k) {
+        if (k == Integer.MIN_VALUE) {
+            return 0;
+        }
+        return removeRange(Integer.MIN_VALUE, k - 1);
+    }
+    
+    /**
+     * Elimina todos los valores mayores que k
+     * @param k Último valor que se conserva
+     * @return El número de valores eliminados
+     */
+    public int tailTruncate(int k) {
+        if (k == Integer.MAX_VALUE) {
+            return 0;
+        }
+        return removeRange(k + 1, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Método recursivo que divide un subárbol según una clave
+     * @param nodo La raíz del subárbol
+     * @param clave La clave de corte
+     * @return Un arreglo {valores menores, nodo con la clave (o null), valores mayores};
+     *         el nodo con la clave queda sin hijos
+     */
+    private Node[] dividir(Node nodo, int clave) {
+        if (nodo == null) {
+            return new Node[3];
+        }
+        
+        if (clave < nodo.valor) {
+            Node[] partes = dividir(nodo.izquierda, clave);
+            partes[2] = unir(partes[2], nodo, nodo.derecha);
+            return partes;
+        }
+        if (clave > nodo.valor) {
+            Node[] partes = dividir(nodo.derecha, clave);
+            partes[0] = unir(nodo.izquierda, nodo, partes[0]);
+            return partes;
+        }
+        
+        Node[] partes = {nodo.izquierda, nodo, nodo.derecha};
+        nodo.izquierda = null;
+        nodo.derecha = null;
+        return partes;
+    }
+    
+    /**
+     * Método recursivo que une dos AVL con un nodo pivote entre ambos
+     * (todas las claves de izquierda < pivote < todas las de derecha).
+     * Baja por el borde del árbol más alto hasta una altura similar a la del
+     * otro, y rebalancea al volver: O(diferencia de alturas).
+     * @param izquierda Raíz del árbol con las claves menores
+     * @param pivote Nodo intermedio (sus hijos se sobrescriben)
+     * @param derecha Raíz del árbol con las claves mayores
+     * @return La raíz del árbol unido y balanceado
+     */
+    private Node unir(Node izquierda, Node pivote, Node derecha) {
+        int alturaIzquierda = getAltura(izquierda);
+        int alturaDerecha = getAltura(derecha);
+        
+        if (alturaIzquierda > alturaDerecha + 1) {
+            izquierda.derecha = unir(izquierda.derecha, pivote, derecha);
+            return balancear(izquierda);
+        }
+        if (alturaDerecha > alturaIzquierda + 1) {
+            derecha.izquierda = unir(izquierda, pivote, derecha.izquierda);
+            return balancear(derecha);
+        }
+        
+        pivote.izquierda = izquierda;
+        pivote.derecha = derecha;
+        actualizarAltura(pivote);
+        return pivote;
+    }
+    
+    /**
+     * Une dos AVL (todas las claves de izquierda < todas las de derecha)
+     * usando como pivote el mínimo del árbol derecho
+     * @param izquierda Raíz del árbol con las claves menores
+     * @param derecha Raíz del árbol con las claves mayores
+     * @return La raíz del árbol unido y balanceado
+     */
+    private Node unir(Node izquierda, Node derecha) {
+        if (izquierda == null) {
+            return derecha;
+        }
+        if (derecha == null) {
+            return izquierda;
+        }
+        Node pivote = nodoValorMinimo(derecha);
+        return unir(izquierda, pivote, desenlazarMinimo(derecha));
+    }
+    
+    /**
+     * Método recursivo que desenlaza el nodo mínimo de un subárbol
+     * (sin darlo de baja: el nodo se reutiliza como pivote)
+     * @param nodo La raíz del subárbol
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private Node desenlazarMinimo(Node nodo) {
+        if (nodo.izquierda == null) {
+            return nodo.derecha;
+        }
+        nodo.izquierda = desenlazarMinimo(nodo.izquierda);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Da de baja un nodo suelto eliminado por removeRange
+     * @param nodo El nodo (o null)
+     * @return 1 si se dio de baja un nodo, 0 si era null
+     */
+    private int descartar(Node nodo) {
+        if (nodo == null) {
+            return 0;
+        }
+        registrarEliminacion(nodo);
+        if (filtro != null) {
+            filtro.quitar(nodo.valor);
+        }
+        return 1;
+    }
+    
+    /**
+     * Método recursivo que da de baja todos los nodos de un subárbol eliminado
+     * @param nodo La raíz del subárbol
+     * @return El número de nodos dados de baja
+     */
+    private int descartarSubarbol(Node nodo) {
+        if (nodo == null) {
+            return 0;
+        }
+        return descartarSubarbol(nodo.izquierda) + descartar(nodo) + descartarSubarbol(nodo.derecha);
+    }
+    
+    /**
+     * Recorre perezosamente los k valores mayores, de mayor a menor, sin
+     * materializar el árbol (O(log n + k)). El árbol no debe modificarse
+     * mientras se consume el stream.
+     * @param k Número máximo de valores a producir
+     * @return Stream con los k valores mayores en orden descendente
+     */
+    public IntStream topK(int k) {
+        return recorrer(new IteradorInorden(raiz, true)).limit(k);
+    }
+    
+    /**
+     * Recorre perezosamente los k valores menores, de menor a mayor, sin
+     * materializar el árbol (O(log n + k)). El árbol no debe modificarse
+     * mientras se consume el stream.
+     * @param k Número máximo de valores a producir
+     * @return Stream con los k valores menores en orden ascendente
+     */
+    public IntStream bottomK(int k) {
+        return recorrer(new IteradorInorden(raiz, false)).limit(k);
+    }
+    
+    /**
+     * Envuelve un iterador del árbol en un IntStream secuencial y perezoso
+     * @param iterador El iterador a envolver
+     * @return El stream resultante
+     */
+    private static IntStream recorrer(PrimitiveIterator.OfInt iterador) {
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterador,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+    
+    /**
+     * Iterador inorden (ascendente o descendente) con pila explícita.
+     * Solo guarda el camino pendiente, por lo que usa O(log n) de memoria.
+     */
+    private static class IteradorInorden implements PrimitiveIterator.OfInt {
+        private final Node[] pila = new Node[64]; // La altura de un AVL con claves int es < 64
+        private final boolean descendente;
+        private int tope;
+        
+        IteradorInorden(Node raiz, boolean descendente) {
+            this.descendente = descendente;
+            apilarRama(raiz);
+        }
+        
+        /**
+         * Apila la rama izquierda (o derecha si es descendente) desde un nodo
+         * @param nodo El nodo inicial de la rama
+         */
+        private void apilarRama(Node nodo) {
+            while (nodo != null) {
+                pila[tope++] = nodo;
+                nodo = descendente ? nodo.derecha : nodo.izquierda;
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return tope > 0;
+        }
+        
+        @Override
+        public int nextInt() {
+            if (tope == 0) {
+                throw new NoSuchElementException();
+            }
+            Node nodo = pila[--tope];
+            apilarRama(descendente ? nodo.izquierda : nodo.derecha);
+            return nodo.valor;
+        }
+    }
+    
     /**
      * Método público para imprimir el árbol gráficamente
      */
@@ -354,6 +1091,38 @@ public class AVLTree {
         return raiz;
     }
     
+    /**
+     * Activa o desactiva la exportación DOT y la impresión del árbol tras
+     * cada inserción, eliminación, poll o eliminación por rango (activada por
+     * defecto para el menú interactivo)
+     * @param activa true para visualizar tras cada cambio, false para omitirlo
+     */
+    public void setVisualizacionAutomatica(boolean activa) {
+        this.visualizacionAutomatica = activa;
+    }
+    
+    /**
+     * Crea un cursor (finger) sobre el árbol para inserciones, búsquedas y
+     * recorridos con localidad respecto a la última posición visitada
+     * @return Un nuevo cursor sin posicionar
+     */
+    public AVLTreeCursor cursor() {
+        return new AVLTreeCursor(this);
+    }
+    
+    /**
+     * Obtiene el exportador incremental del árbol, creándolo la primera vez.
+     * Hay uno solo por árbol (el mismo que usa la visualización automática)
+     * porque los cambios pendientes se consumen al exportar.
+     * @return El exportador incremental del árbol
+     */
+    public ExportadorIncremental getExportadorIncremental() {
+        if (exportador == null) {
+            exportador = new ExportadorIncremental(this);
+        }
+        return exportador;
+    }
+    
     /**
      * Método auxiliar para visualizar el árbol con líneas de conexión
      * @param nodo El nodo actual
@@ -386,7 +1155,8 @@ public class AVLTree {
      * Guarda automáticamente el árbol en formato DOT
      */
     private void guardarDotAutomatico() {
-        AVLTreeExporter.exportarADOT(this, NOMBRE_ARCHIVO);
+        // El exportador incremental solo regenera los fragmentos de los nodos cambiados
+        getExportadorIncremental().exportarADOT(NOMBRE_ARCHIVO);
         generarImagenAutomatica();
     }
 
@@ -0,0 +1,214 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Comparación de rendimiento (micro-benchmark simple con System.nanoTime)
+ * entre AVLTree y las colecciones estándar de Java.
+ * Ejecutar con: java AVLTreeBenchmark [numeroDeValores]
+ */
+public class AVLTreeBenchmark {
+    private static final int REPETICIONES = 5; // La primera repetición sirve de calentamiento
+
+    private static int sumidero; // Evita que el JIT elimine los resultados
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int[] valores = generarValores(n, 42);
+
+        System.out.println("=== Cola de trabajo (" + n + " valores) ===");
+        for (int r = 0; r < REPETICIONES; r++) {
+            System.out.printf("AVLTree       : %6d ms%n", medir(() -> colaAVL(valores)));
+            System.out.printf("PriorityQueue : %6d ms%n", medir(() -> colaPriorityQueue(valores)));
+            System.out.printf("TreeSet       : %6d ms%n", medir(() -> colaTreeSet(valores)));
+            System.out.println();
+        }
+
+        int k = 100;
+        System.out.println("=== Top-" + k + " repetido sobre " + n + " valores ===");
+        AVLTree arbol = crearArbol(valores);
+        TreeSet<Integer> conjunto = new TreeSet<>();
+        for (int valor : valores) {
+            conjunto.add(valor);
+        }
+        for (int r = 0; r < REPETICIONES; r++) {
+            System.out.printf("AVLTree.topK  : %6d ms%n", medir(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sumidero += arbol.topK(k).sum();
+                }
+            }));
+            System.out.printf("TreeSet desc. : %6d ms%n", medir(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sumidero += conjunto.descendingSet().stream().limit(k).mapToInt(Integer::intValue).sum();
+                }
+            }));
+            System.out.println();
+        }
+
+        int numeroIntervalos = n / 10;
+        System.out.println("=== Consultas de solapamiento sobre " + numeroIntervalos + " intervalos ===");
+        AVLIntervalTree arbolIntervalos = new AVLIntervalTree();
+        List<Intervalo> intervalos = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < numeroIntervalos; i++) {
+            long inicio = random.nextInt(100_000_000);
+            long fin = inicio + random.nextInt(10_000);
+            if (arbolIntervalos.insertar(inicio, fin)) {
+                intervalos.add(new Intervalo(inicio, fin));
+            }
+        }
+        long[] puntos = random.longs(1_000, 0, 100_000_000).toArray();
+        for (int r = 0; r < REPETICIONES; r++) {
+            System.out.printf("AVLIntervalTree : %6d ms%n", medir(() -> {
+                for (long punto : puntos) {
+                    sumidero += arbolIntervalos.buscarQueContienen(punto).size();
+                }
+            }));
+            System.out.printf("Recorrido lineal: %6d ms%n", medir(() -> {
+                for (long punto : puntos) {
+                    List<Intervalo> encontrados = new ArrayList<>();
+                    for (Intervalo intervalo : intervalos) {
+                        if (intervalo.contiene(punto)) {
+                            encontrados.add(intervalo);
+                        }
+                    }
+                    sumidero += encontrados.size();
+                }
+            }));
+            System.out.println();
+        }
+
+        System.out.println("=== Búsquedas: AVLTree vs AVLTreeCubetas (" + n + " valores) ===");
+        AVLTreeCubetas arbolCubetas = new AVLTreeCubetas();
+        for (int valor : valores) {
+            arbolCubetas.insertar(valor);
+        }
+        System.out.println("Nodos AVLTree: " + arbol.tamano() + ", cubetas: " + arbolCubetas.getNumeroCubetas());
+        int[] consultas = generarValores(n, 43);
+        for (int r = 0; r < REPETICIONES; r++) {
+            System.out.printf("AVLTree        : %6d ms%n", medir(() -> {
+                for (int consulta : consultas) {
+                    sumidero += arbol.buscar(consulta) ? 1 : 0;
+                }
+                for (int valor : valores) {
+                    sumidero += arbol.buscar(valor) ? 1 : 0;
+                }
+            }));
+            System.out.printf("AVLTreeCubetas : %6d ms%n", medir(() -> {
+                for (int consulta : consultas) {
+                    sumidero += arbolCubetas.buscar(consulta) ? 1 : 0;
+                }
+                for (int valor : valores) {
+                    sumidero += arbolCubetas.buscar(valor) ? 1 : 0;
+                }
+            }));
+            System.out.println();
+        }
+
+        System.out.println("=== Búsquedas fallidas con y sin filtro de Bloom (" + n + " valores) ===");
+        AVLTree arbolConFiltro = crearArbol(valores);
+        arbolConFiltro.activarFiltro(0.01);
+        for (int r = 0; r < REPETICIONES; r++) {
+            System.out.printf("Sin filtro : %6d ms%n", medir(() -> {
+                for (int consulta : consultas) {
+                    sumidero += arbol.buscar(consulta) ? 1 : 0;
+                }
+            }));
+            System.out.printf("Con filtro : %6d ms%n", medir(() -> {
+                for (int consulta : consultas) {
+                    sumidero += arbolConFiltro.buscar(consulta) ? 1 : 0;
+                }
+            }));
+            System.out.println();
+        }
+        FiltroBloomContador filtro = arbolConFiltro.getFiltro();
+        System.out.printf("Tasa de acierto del filtro: %.4f, falsos positivos observados: %.4f%n",
+                filtro.getTasaAciertoFiltro(), filtro.getTasaFalsosPositivosObservada());
+
+        System.out.println("(sumidero = " + sumidero + ")");
+    }
+
+    /**
+     * Inserta todos los valores y luego alterna extracciones del mínimo con
+     * nuevas inserciones, consultando el mínimo en cada paso
+     */
+    private static void colaAVL(int[] valores) {
+        AVLTree arbol = crearArbol(valores);
+        for (int i = 0; i < valores.length; i++) {
+            sumidero += arbol.peekFirst();
+            sumidero += arbol.pollFirst();
+            arbol.insertar(valores[i] ^ 0x5bd1e995);
+        }
+        while (arbol.tamano() > 0) {
+            sumidero += arbol.pollLast();
+        }
+    }
+
+    private static void colaPriorityQueue(int[] valores) {
+        PriorityQueue<Integer> cola = new PriorityQueue<>();
+        for (int valor : valores) {
+            cola.add(valor);
+        }
+        for (int i = 0; i < valores.length; i++) {
+            sumidero += cola.peek();
+            sumidero += cola.poll();
+            cola.add(valores[i] ^ 0x5bd1e995);
+        }
+        while (!cola.isEmpty()) {
+            sumidero += cola.poll();
+        }
+    }
+
+    private static void colaTreeSet(int[] valores) {
+        TreeSet<Integer> conjunto = new TreeSet<>();
+        for (int valor : valores) {
+            conjunto.add(valor);
+        }
+        for (int i = 0; i < valores.length; i++) {
+            sumidero += conjunto.first();
+            sumidero += conjunto.pollFirst();
+            conjunto.add(valores[i] ^ 0x5bd1e995);
+        }
+        while (!conjunto.isEmpty()) {
+            sumidero += conjunto.pollLast();
+        }
+    }
+
+    /**
+     * Crea un árbol sin visualización automática con los valores dados
+     * @param valores Los valores a insertar
+     * @return El árbol construido
+     */
+    private static AVLTree crearArbol(int[] valores) {
+        AVLTree arbol = new AVLTree();
+        arbol.setVisualizacionAutomatica(false);
+        for (int valor : valores) {
+            arbol.insertar(valor);
+        }
+        return arbol;
+    }
+
+    /**
+     * Genera valores aleatorios distintos
+     * @param n Cantidad de valores
+     * @param semilla Semilla del generador
+     * @return Arreglo de valores sin repetir
+     */
+    private static int[] generarValores(int n, long semilla) {
+        Random random = new Random(semilla);
+        return random.ints().distinct().limit(n).toArray();
+    }
+
+    /**
+     * Mide el tiempo de ejecución de una tarea
+     * @param tarea La tarea a medir
+     * @return El tiempo transcurrido en milisegundos
+     */
+    private static long medir(Runnable tarea) {
+        long inicio = System.nanoTime();
+        tarea.run();
+        return (System.nanoTime() - inicio) / 1_000_000;
+    }
+}
@@ -0,0 +1,370 @@
+import java.util.Arrays;
+
+/**
+ * Variante híbrida del árbol AVL cuyos nodos son cubetas: arreglos int[]
+ * ordenados de hasta 'capacidad' claves. El AVL solo balancea las cubetas, así
+ * que con capacidad 64 hay del orden de n/48 nodos en lugar de n, con muchos
+ * menos objetos, menos memoria por clave y menos niveles de punteros que
+ * seguir; dentro de una cubeta la búsqueda es binaria sobre memoria contigua.
+ * Las rotaciones son las de ArbolAVLBase, compartidas con AVLTree.
+ *
+ * La semántica de insertar/eliminar/buscar es la misma que la de AVLTree
+ * (sin duplicados). Una cubeta llena se divide en dos. Si una eliminación deja
+ * una cubeta con menos de un cuarto de su capacidad, se fusiona con su vecina
+ * en orden (la siguiente o, si es la última, la anterior) cuando caben juntas,
+ * o le toma claves hasta repartirlas a medias; así, salvo que sea la única,
+ * ninguna cubeta queda por debajo de un cuarto tras una eliminación.
+ */
+public class AVLTreeCubetas extends ArbolAVLBase<NodoCubeta> {
+    private static final int CAPACIDAD_POR_DEFECTO = 64;
+    
+    NodoCubeta raiz;          // Raíz del árbol
+    private final int capacidad; // Claves por cubeta
+    private int tamano;       // Número de claves almacenadas
+    private int numeroCubetas; // Número de nodos del árbol
+    private NodoCubeta cubetaEscasa; // Cubeta que quedó con pocas claves en la última eliminación
+    
+    /**
+     * Constructor para un árbol vacío con cubetas de 64 claves
+     */
+    public AVLTreeCubetas() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+    
+    /**
+     * Constructor para un árbol vacío
+     * @param capacidad Claves por cubeta (típicamente entre 32 y 128)
+     * @throws IllegalArgumentException si la capacidad es menor que 4
+     */
+    public AVLTreeCubetas(int capacidad) {
+        if (capacidad < 4) {
+            throw new IllegalArgumentException("La capacidad de las cubetas debe ser al menos 4");
+        }
+        this.capacidad = capacidad;
+        this.raiz = null;
+    }
+    
+    /**
+     * Método público para buscar un valor en el árbol
+     * @param valor El valor a buscar
+     * @return true si el valor existe, false en caso contrario
+     */
+    public boolean buscar(int valor) {
+        NodoCubeta nodo = raiz;
+        while (nodo != null) {
+            if (valor < nodo.minimo()) {
+                nodo = nodo.izquierda;
+            } else if (valor > nodo.maximo()) {
+                nodo = nodo.derecha;
+            } else {
+                return Arrays.binarySearch(nodo.claves, 0, nodo.cantidad, valor) >= 0;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Método público para insertar un valor en el árbol
+     * @param valor El valor a insertar
+     * @return true si se insertó, false si ya existía
+     */
+    public boolean insertar(int valor) {
+        int tamanoAnterior = tamano;
+        raiz = insertar(raiz, valor);
+        return tamano > tamanoAnterior;
+    }
+    
+    /**
+     * Método recursivo para insertar un valor en el árbol y balancearlo.
+     * El valor va a la cubeta cuyo rango lo contiene o, si cae entre dos
+     * cubetas, a la que está en el límite del camino de búsqueda.
+     * @param nodo El nodo raíz del subárbol donde se inserta
+     * @param valor El valor a insertar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta insertar(NodoCubeta nodo, int valor) {
+        if (nodo == null) {
+            tamano++;
+            numeroCubetas++;
+            return new NodoCubeta(capacidad, valor);
+        }
+        
+        if (valor < nodo.minimo() && nodo.izquierda != null) {
+            nodo.izquierda = insertar(nodo.izquierda, valor);
+            return balancear(nodo);
+        }
+        if (valor > nodo.maximo() && nodo.derecha != null) {
+            nodo.derecha = insertar(nodo.derecha, valor);
+            return balancear(nodo);
+        }
+        
+        int posicion = Arrays.binarySearch(nodo.claves, 0, nodo.cantidad, valor);
+        if (posicion >= 0) {
+            // Valores duplicados no se permiten (retornar el mismo nodo)
+            return nodo;
+        }
+        posicion = -posicion - 1;
+        tamano++;
+        
+        if (nodo.cantidad < capacidad) {
+            System.arraycopy(nodo.claves, posicion, nodo.claves, posicion + 1, nodo.cantidad - posicion);
+            nodo.claves[posicion] = valor;
+            nodo.cantidad++;
+            return nodo;
+        }
+        
+        // Cubeta llena y valor mayor que todas sus claves (inserciones
+        // ascendentes): se abre una cubeta nueva en lugar de dividir esta
+        if (posicion == capacidad) {
+            numeroCubetas++;
+            nodo.derecha = insertarComoMinimo(nodo.derecha, new NodoCubeta(capacidad, valor));
+            return balancear(nodo);
+        }
+        
+        // Cubeta llena: se divide; la mitad superior pasa a una cubeta nueva que
+        // se enlaza como mínimo del subárbol derecho
+        int[] todas = new int[capacidad + 1];
+        System.arraycopy(nodo.claves, 0, todas, 0, posicion);
+        todas[posicion] = valor;
+        System.arraycopy(nodo.claves, posicion, todas, posicion + 1, capacidad - posicion);
+        
+        int mitad = (capacidad + 1) / 2;
+        int[] superiores = new int[capacidad];
+        System.arraycopy(todas, mitad, superiores, 0, capacidad + 1 - mitad);
+        System.arraycopy(todas, 0, nodo.claves, 0, mitad);
+        nodo.cantidad = mitad;
+        
+        numeroCubetas++;
+        nodo.derecha = insertarComoMinimo(nodo.derecha, new NodoCubeta(superiores, capacidad + 1 - mitad));
+        return balancear(nodo);
+    }
+    
+    /**
+     * Método recursivo que enlaza una cubeta como el nodo más a la izquierda
+     * de un subárbol (todas sus claves son menores que las del subárbol)
+     * @param nodo La raíz del subárbol
+     * @param cubeta La cubeta a enlazar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta insertarComoMinimo(NodoCubeta nodo, NodoCubeta cubeta) {
+        if (nodo == null) {
+            return cubeta;
+        }
+        nodo.izquierda = insertarComoMinimo(nodo.izquierda, cubeta);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Método público para eliminar un valor del árbol
+     * @param valor El valor a eliminar
+     * @return true si el valor existía y se eliminó
+     */
+    public boolean eliminar(int valor) {
+        int tamanoAnterior = tamano;
+        raiz = eliminar(raiz, valor);
+        
+        // La vecina en orden puede estar en otra rama, así que se busca desde la raíz
+        if (cubetaEscasa != null) {
+            reequilibrar(cubetaEscasa);
+            cubetaEscasa = null;
+        }
+        return tamano < tamanoAnterior;
+    }
+    
+    /**
+     * Método recursivo para eliminar un valor y balancear el árbol
+     * @param nodo El nodo raíz del subárbol donde se elimina
+     * @param valor El valor a eliminar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta eliminar(NodoCubeta nodo, int valor) {
+        if (nodo == null) {
+            return null; // Valor no encontrado
+        }
+        
+        if (valor < nodo.minimo()) {
+            nodo.izquierda = eliminar(nodo.izquierda, valor);
+            return balancear(nodo);
+        }
+        if (valor > nodo.maximo()) {
+            nodo.derecha = eliminar(nodo.derecha, valor);
+            return balancear(nodo);
+        }
+        
+        int posicion = Arrays.binarySearch(nodo.claves, 0, nodo.cantidad, valor);
+        if (posicion < 0) {
+            return nodo; // Valor no encontrado
+        }
+        System.arraycopy(nodo.claves, posicion + 1, nodo.claves, posicion, nodo.cantidad - posicion - 1);
+        nodo.cantidad--;
+        tamano--;
+        
+        // Cubeta vacía: se elimina el nodo del AVL
+        if (nodo.cantidad == 0) {
+            numeroCubetas--;
+            return desenlazar(nodo);
+        }
+        
+        // Cubeta con pocas claves: se reequilibra con su vecina al terminar
+        if (nodo.cantidad < capacidad / 4) {
+            cubetaEscasa = nodo;
+        }
+        return nodo;
+    }
+    
+    /**
+     * Quita un nodo del AVL; con dos hijos, el nodo adopta las claves de la
+     * cubeta sucesora y es esta la que se desenlaza
+     * @param nodo El nodo a quitar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta desenlazar(NodoCubeta nodo) {
+        if (nodo.izquierda == null) {
+            return nodo.derecha;
+        } else if (nodo.derecha == null) {
+            return nodo.izquierda;
+        }
+        NodoCubeta sucesor = nodo.derecha;
+        while (sucesor.izquierda != null) {
+            sucesor = sucesor.izquierda;
+        }
+        nodo.claves = sucesor.claves;
+        nodo.cantidad = sucesor.cantidad;
+        nodo.derecha = eliminarMinimo(nodo.derecha);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Reequilibra una cubeta con pocas claves con su vecina en orden (la
+     * sucesora o, si no existe, la predecesora), que puede estar en cualquier
+     * parte del árbol: si caben juntas se fusionan; si no, la vecina tiene más
+     * de tres cuartos de la capacidad y se reparten las claves a medias
+     * @param cubeta La cubeta con pocas claves
+     */
+    private void reequilibrar(NodoCubeta cubeta) {
+        NodoCubeta izquierda = cubeta;
+        NodoCubeta derecha = buscarSucesora(cubeta);
+        if (derecha == null) {
+            derecha = cubeta;
+            izquierda = buscarPredecesora(cubeta);
+            if (izquierda == null) {
+                return; // Es la única cubeta
+            }
+        }
+        
+        int total = izquierda.cantidad + derecha.cantidad;
+        if (total <= capacidad) {
+            // Se desenlaza la de la derecha (antes de copiar, para que la búsqueda
+            // por su mínimo no se desvíe) y sus claves pasan al final de la izquierda
+            int[] claves = derecha.claves;
+            int cantidad = derecha.cantidad;
+            raiz = eliminarCubeta(raiz, derecha);
+            numeroCubetas--;
+            System.arraycopy(claves, 0, izquierda.claves, izquierda.cantidad, cantidad);
+            izquierda.cantidad = total;
+            return;
+        }
+        
+        // Repartir: las claves cruzan el límite entre dos cubetas consecutivas,
+        // así que el orden del árbol se mantiene sin cambiar su forma
+        int objetivo = total / 2;
+        if (izquierda.cantidad < objetivo) {
+            int mover = objetivo - izquierda.cantidad;
+            System.arraycopy(derecha.claves, 0, izquierda.claves, izquierda.cantidad, mover);
+            System.arraycopy(derecha.claves, mover, derecha.claves, 0, derecha.cantidad - mover);
+            izquierda.cantidad += mover;
+            derecha.cantidad -= mover;
+        } else {
+            int mover = izquierda.cantidad - objetivo;
+            System.arraycopy(derecha.claves, 0, derecha.claves, mover, derecha.cantidad);
+            System.arraycopy(izquierda.claves, objetivo, derecha.claves, 0, mover);
+            izquierda.cantidad -= mover;
+            derecha.cantidad += mover;
+        }
+    }
+    
+    /**
+     * Busca desde la raíz la cubeta siguiente en orden
+     * @param cubeta Una cubeta del árbol
+     * @return La cubeta con el menor mínimo mayor que el máximo de la dada, o null
+     */
+    private NodoCubeta buscarSucesora(NodoCubeta cubeta) {
+        NodoCubeta sucesora = null;
+        NodoCubeta nodo = raiz;
+        while (nodo != null) {
+            if (nodo.minimo() > cubeta.maximo()) {
+                sucesora = nodo;
+                nodo = nodo.izquierda;
+            } else {
+                nodo = nodo.derecha;
+            }
+        }
+        return sucesora;
+    }
+    
+    /**
+     * Busca desde la raíz la cubeta anterior en orden
+     * @param cubeta Una cubeta del árbol
+     * @return La cubeta con el mayor máximo menor que el mínimo de la dada, o null
+     */
+    private NodoCubeta buscarPredecesora(NodoCubeta cubeta) {
+        NodoCubeta predecesora = null;
+        NodoCubeta nodo = raiz;
+        while (nodo != null) {
+            if (nodo.maximo() < cubeta.minimo()) {
+                predecesora = nodo;
+                nodo = nodo.derecha;
+            } else {
+                nodo = nodo.izquierda;
+            }
+        }
+        return predecesora;
+    }
+    
+    /**
+     * Método recursivo que quita del AVL una cubeta dada, localizándola por su mínimo
+     * @param nodo La raíz del subárbol que contiene la cubeta
+     * @param cubeta La cubeta a quitar
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta eliminarCubeta(NodoCubeta nodo, NodoCubeta cubeta) {
+        if (nodo == cubeta) {
+            return desenlazar(nodo);
+        }
+        if (cubeta.minimo() < nodo.minimo()) {
+            nodo.izquierda = eliminarCubeta(nodo.izquierda, cubeta);
+        } else {
+            nodo.derecha = eliminarCubeta(nodo.derecha, cubeta);
+        }
+        return balancear(nodo);
+    }
+    
+    /**
+     * Método recursivo que desenlaza la cubeta más a la izquierda de un subárbol
+     * @param nodo La raíz del subárbol
+     * @return La nueva raíz del subárbol balanceado
+     */
+    private NodoCubeta eliminarMinimo(NodoCubeta nodo) {
+        if (nodo.izquierda == null) {
+            return nodo.derecha;
+        }
+        nodo.izquierda = eliminarMinimo(nodo.izquierda);
+        return balancear(nodo);
+    }
+    
+    /**
+     * Obtiene el número de valores almacenados en el árbol
+     * @return El número de valores
+     */
+    public int tamano() {
+        return tamano;
+    }
+    
+    /**
+     * Obtiene el número de cubetas (nodos) del árbol
+     * @return El número de cubetas
+     */
+    public int getNumeroCubetas() {
+        return numeroCubetas;
+    }
+}
@@ -0,0 +1,368 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor (finger) sobre un árbol AVL.
+ * Recuerda el camino desde la raíz hasta la última posición visitada, de modo
+ * que búsquedas, inserciones y desplazamientos al siguiente/anterior solo
+ * suben hasta el primer ancestro cuyo rango contiene la clave buscada antes de
+ * volver a bajar.
+ *
+ * El cursor no tiene enlaces entre nodos del mismo nivel: dos claves vecinas
+ * separadas por un ancestro alto obligan a subir hasta él, así que una sola
+ * operación cuesta O(log n) en el peor caso, aun con distancia d = 1. Para
+ * accesos monótonos (recorridos con siguiente/anterior, búsquedas o
+ * inserciones en orden creciente o decreciente) el costo amortizado es
+ * O(log d), donde d es la distancia (en claves) entre posiciones consecutivas.
+ * Las inserciones ascendentes consecutivas (timestamps, secuencias) cuestan
+ * O(1) amortizado cuando el cursor está sobre el máximo (O(log n) si el árbol
+ * mantiene agregados, que deben actualizarse hasta la raíz).
+ *
+ * Las operaciones del cursor no exportan ni imprimen el árbol. Si el árbol se
+ * modifica por otro medio, el cursor se reposiciona desde la raíz en su
+ * siguiente operación.
+ */
+public class AVLTreeCursor {
+    // La altura de un AVL es < 1.45 * log2(n + 2); con claves int nunca supera 64
+    private static final int PROFUNDIDAD_MAXIMA = 64;
+
+    private final AVLTree arbol;
+    private final Node[] camino = new Node[PROFUNDIDAD_MAXIMA];
+    private final long[] limiteInferior = new long[PROFUNDIDAD_MAXIMA]; // Exclusivo
+    private final long[] limiteSuperior = new long[PROFUNDIDAD_MAXIMA]; // Exclusivo
+    private int profundidad; // Número de nodos en el camino (0 = sin posición)
+    private int version;     // Valor de arbol.modificaciones al que corresponde el camino
+
+    /**
+     * Crea un cursor sin posicionar sobre el árbol indicado
+     * @param arbol El árbol a recorrer
+     */
+    public AVLTreeCursor(AVLTree arbol) {
+        this.arbol = arbol;
+        this.profundidad = 0;
+        this.version = arbol.modificaciones;
+    }
+
+    /**
+     * Indica si el cursor está posicionado sobre un nodo
+     * @return true si hay un valor actual, false en caso contrario
+     */
+    public boolean esValido() {
+        sincronizar();
+        return profundidad > 0;
+    }
+
+    /**
+     * Obtiene el valor sobre el que está posicionado el cursor
+     * @return El valor actual
+     * @throws NoSuchElementException si el cursor no está posicionado
+     */
+    public int valor() {
+        sincronizar();
+        if (profundidad == 0) {
+            throw new NoSuchElementException("Cursor sin posición");
+        }
+        return camino[profundidad - 1].valor;
+    }
+
+    /**
+     * Posiciona el cursor sobre el valor mínimo del árbol
+     * @return true si el árbol no está vacío
+     */
+    public boolean irAlMinimo() {
+        sincronizar();
+        profundidad = 0;
+        if (arbol.raiz == null) {
+            return false;
+        }
+        apilar(arbol.raiz, Long.MIN_VALUE, Long.MAX_VALUE);
+        bajarIzquierda();
+        return true;
+    }
+
+    /**
+     * Posiciona el cursor sobre el valor máximo del árbol
+     * @return true si el árbol no está vacío
+     */
+    public boolean irAlMaximo() {
+        sincronizar();
+        profundidad = 0;
+        if (arbol.raiz == null) {
+            return false;
+        }
+        apilar(arbol.raiz, Long.MIN_VALUE, Long.MAX_VALUE);
+        bajarDerecha();
+        return true;
+    }
+
+    /**
+     * Busca un valor partiendo de la posición actual del cursor.
+     * Si el valor no existe, el cursor queda sobre el último nodo visitado
+     * (el predecesor o el sucesor del valor buscado).
+     * @param valor El valor a buscar
+     * @return true si el valor existe, false en caso contrario
+     */
+    public boolean buscar(int valor) {
+        sincronizar();
+        if (arbol.raiz == null) {
+            profundidad = 0;
+            return false;
+        }
+        subirHasta(valor);
+        bajarHasta(valor);
+        return camino[profundidad - 1].valor == valor;
+    }
+
+    /**
+     * Inserta un valor partiendo de la posición actual del cursor y deja el
+     * cursor sobre el valor insertado (o sobre el existente si ya estaba)
+     * @param valor El valor a insertar
+     * @return true si el valor se insertó, false si ya existía
+     */
+    public boolean insertar(int valor) {
+        sincronizar();
+        if (arbol.raiz == null) {
+            arbol.raiz = arbol.crearNodo(valor);
+            arbol.registrarInsercion(arbol.raiz);
+            profundidad = 0;
+            apilar(arbol.raiz, Long.MIN_VALUE, Long.MAX_VALUE);
+            registrarModificacion();
+            arbol.notificarInsercion(valor);
+            return true;
+        }
+
+        subirHasta(valor);
+        bajarHasta(valor);
+        Node padre = camino[profundidad - 1];
+        if (padre.valor == valor) {
+            return false; // Valores duplicados no se permiten
+        }
+
+        // 1. Enlazar el nuevo nodo como hoja
+        Node nuevo = arbol.crearNodo(valor);
+        if (valor < padre.valor) {
+            padre.izquierda = nuevo;
+        } else {
+            padre.derecha = nuevo;
+        }
+        apilarHijo(nuevo);
+        arbol.registrarInsercion(nuevo);
+
+        // 2. Rebalancear subiendo por el camino; se detiene en cuanto una altura
+        //    no cambia o tras la primera rotación (la altura vuelve a la original)
+        int i = profundidad - 2;
+        for (; i >= 0; i--) {
+            Node nodo = camino[i];
+            int alturaAnterior = nodo.altura;
+            Node nuevaRaiz = arbol.balancear(nodo);
+
+            if (nuevaRaiz != nodo) {
+                enlazar(i, nuevaRaiz);
+                // El subárbol conserva su rango de claves; se rehace el camino debajo
+                camino[i] = nuevaRaiz;
+                profundidad = i + 1;
+                bajarHasta(valor);
+                break;
+            }
+            if (nodo.altura == alturaAnterior) {
+                break;
+            }
+        }
+
+        // 3. Los agregados, si el árbol los usa, cambian en todo el camino
+        //    hasta la raíz aunque las alturas ya no lo hagan
+        if (arbol.tieneAgregado()) {
+            for (i--; i >= 0; i--) {
+                arbol.actualizarAgregado(camino[i]);
+            }
+        }
+
+        registrarModificacion();
+        arbol.notificarInsercion(valor);
+        return true;
+    }
+
+    /**
+     * Avanza el cursor al siguiente valor en orden (sucesor inorden)
+     * @return true si se avanzó, false si no hay siguiente (el cursor no se mueve)
+     */
+    public boolean siguiente() {
+        sincronizar();
+        if (profundidad == 0) {
+            return false;
+        }
+
+        Node actual = camino[profundidad - 1];
+        if (actual.derecha != null) {
+            apilarHijo(actual.derecha);
+            bajarIzquierda();
+            return true;
+        }
+
+        // Subir hasta el primer ancestro del que venimos por la izquierda
+        for (int i = profundidad - 2; i >= 0; i--) {
+            if (camino[i].izquierda == camino[i + 1]) {
+                profundidad = i + 1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrocede el cursor al valor anterior en orden (predecesor inorden)
+     * @return true si se retrocedió, false si no hay anterior (el cursor no se mueve)
+     */
+    public boolean anterior() {
+        sincronizar();
+        if (profundidad == 0) {
+            return false;
+        }
+
+        Node actual = camino[profundidad - 1];
+        if (actual.izquierda != null) {
+            apilarHijo(actual.izquierda);
+            bajarDerecha();
+            return true;
+        }
+
+        // Subir hasta el primer ancestro del que venimos por la derecha
+        for (int i = profundidad - 2; i >= 0; i--) {
+            if (camino[i].derecha == camino[i + 1]) {
+                profundidad = i + 1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sube por el camino hasta el primer ancestro cuyo rango de claves
+     * contiene el valor (como mínimo queda la raíz)
+     * @param valor El valor de referencia
+     */
+    private void subirHasta(int valor) {
+        if (profundidad == 0) {
+            apilar(arbol.raiz, Long.MIN_VALUE, Long.MAX_VALUE);
+            return;
+        }
+        while (profundidad > 1
+                && (valor <= limiteInferior[profundidad - 1] || valor >= limiteSuperior[profundidad - 1])) {
+            profundidad--;
+        }
+    }
+
+    /**
+     * Baja desde la posición actual siguiendo la búsqueda BST del valor hasta
+     * encontrarlo o llegar a un hijo nulo
+     * @param valor El valor a buscar
+     */
+    private void bajarHasta(int valor) {
+        Node nodo = camino[profundidad - 1];
+        while (nodo.valor != valor) {
+            Node hijo = valor < nodo.valor ? nodo.izquierda : nodo.derecha;
+            if (hijo == null) {
+                return;
+            }
+            apilarHijo(hijo);
+            nodo = hijo;
+        }
+    }
+
+    /**
+     * Baja por la rama izquierda hasta el mínimo del subárbol actual
+     */
+    private void bajarIzquierda() {
+        Node nodo = camino[profundidad - 1];
+        while (nodo.izquierda != null) {
+            nodo = nodo.izquierda;
+            apilarHijo(nodo);
+        }
+    }
+
+    /**
+     * Baja por la rama derecha hasta el máximo del subárbol actual
+     */
+    private void bajarDerecha() {
+        Node nodo = camino[profundidad - 1];
+        while (nodo.derecha != null) {
+            nodo = nodo.derecha;
+            apilarHijo(nodo);
+        }
+    }
+
+    /**
+     * Agrega al camino un hijo del nodo actual, derivando su rango de claves
+     * @param hijo El hijo (izquierdo o derecho) del último nodo del camino
+     */
+    private void apilarHijo(Node hijo) {
+        int tope = profundidad - 1;
+        Node padre = camino[tope];
+        if (hijo == padre.izquierda) {
+            apilar(hijo, limiteInferior[tope], padre.valor);
+        } else {
+            apilar(hijo, padre.valor, limiteSuperior[tope]);
+        }
+    }
+
+    /**
+     * Agrega un nodo al camino con su rango exclusivo de claves
+     * @param nodo El nodo a agregar
+     * @param inferior Límite inferior exclusivo
+     * @param superior Límite superior exclusivo
+     */
+    private void apilar(Node nodo, long inferior, long superior) {
+        camino[profundidad] = nodo;
+        limiteInferior[profundidad] = inferior;
+        limiteSuperior[profundidad] = superior;
+        profundidad++;
+    }
+
+    /**
+     * Sustituye en su padre (o en la raíz) el subárbol del nivel indicado
+     * @param nivel Índice en el camino del subárbol reemplazado
+     * @param nuevaRaiz La nueva raíz de ese subárbol
+     */
+    private void enlazar(int nivel, Node nuevaRaiz) {
+        if (nivel == 0) {
+            arbol.raiz = nuevaRaiz;
+            return;
+        }
+        Node padre = camino[nivel - 1];
+        if (padre.izquierda == camino[nivel]) {
+            padre.izquierda = nuevaRaiz;
+        } else {
+            padre.derecha = nuevaRaiz;
+        }
+        arbol.marcarModificado(padre); // Cambió su enlace aunque no su altura
+    }
+
+    /**
+     * Registra una modificación hecha por este cursor, de modo que los demás
+     * cursores del árbol se reposicionen y este conserve su camino
+     */
+    private void registrarModificacion() {
+        arbol.modificaciones++;
+        version = arbol.modificaciones;
+    }
+
+    /**
+     * Si el árbol cambió por otro medio, reconstruye el camino desde la raíz
+     * hacia el último valor visitado
+     */
+    private void sincronizar() {
+        if (version == arbol.modificaciones) {
+            return;
+        }
+        version = arbol.modificaciones;
+
+        if (profundidad == 0) {
+            return;
+        }
+        int ultimoValor = camino[profundidad - 1].valor;
+        profundidad = 0;
+        if (arbol.raiz != null) {
+            apilar(arbol.raiz, Long.MIN_VALUE, Long.MAX_VALUE);
+            bajarHasta(ultimoValor);
+        }
+    }
+}
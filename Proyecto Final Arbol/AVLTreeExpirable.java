@@ -0,0 +1,227 @@
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Índice de pertenencia con expiración: cada clave del árbol AVL guarda su
+ * vencimiento en su propio nodo, y un conjunto ordenado por vencimiento (una
+ * única entrada por clave) decide qué claves expulsar, con costo O(log n) por
+ * clave expirada. Renovar una clave reemplaza su entrada, de modo que la
+ * memoria usada es proporcional al número de claves y no al de renovaciones.
+ *
+ * La expiración es incremental: cada operación expulsa como máximo unas pocas
+ * claves vencidas, y opcionalmente un hilo de limpieza periódica procesa el
+ * resto por lotes acotados, evitando pausas de purga completas.
+ * Una clave vencida que aún no se expulsó ya no se reporta como contenida.
+ */
+public class AVLTreeExpirable {
+    private static final int EXPIRACIONES_POR_OPERACION = 4; // Trabajo acotado por operación
+    private static final int EXPIRACIONES_POR_LOTE = 1024;   // Trabajo acotado por ciclo de limpieza
+
+    private final AVLTree arbol;                       // Claves y sus vencimientos
+    private final TreeSet<Entrada> colaVencimientos;   // Una entrada por clave, por vencimiento
+    private final LongSupplier reloj;                  // Fuente de tiempo en milisegundos
+    private ScheduledExecutorService limpiador;        // Limpieza periódica (opcional)
+
+    /**
+     * Nodo del árbol que guarda el vencimiento junto a la clave
+     */
+    private static class NodoExpirable extends Node {
+        long vencimiento;
+
+        NodoExpirable(int valor) {
+            super(valor);
+        }
+
+        @Override
+        void copiarValor(Node origen) {
+            super.copiarValor(origen);
+            this.vencimiento = ((NodoExpirable) origen).vencimiento;
+        }
+    }
+
+    /**
+     * Árbol cuyos nodos son NodoExpirable
+     */
+    private static class ArbolExpirable extends AVLTree {
+        @Override
+        Node crearNodo(int valor) {
+            return new NodoExpirable(valor);
+        }
+    }
+
+    /**
+     * Entrada de la cola de vencimientos, ordenada por vencimiento y luego por
+     * clave para que claves con el mismo vencimiento no se confundan
+     */
+    private static class Entrada implements Comparable<Entrada> {
+        final long vencimiento;
+        final int clave;
+
+        Entrada(long vencimiento, int clave) {
+            this.vencimiento = vencimiento;
+            this.clave = clave;
+        }
+
+        @Override
+        public int compareTo(Entrada otra) {
+            int comparacion = Long.compare(vencimiento, otra.vencimiento);
+            return comparacion != 0 ? comparacion : Integer.compare(clave, otra.clave);
+        }
+    }
+
+    /**
+     * Constructor para un índice vacío que usa el reloj del sistema
+     */
+    public AVLTreeExpirable() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor para un índice vacío con una fuente de tiempo propia
+     * @param reloj Proveedor del tiempo actual en milisegundos
+     */
+    public AVLTreeExpirable(LongSupplier reloj) {
+        this.arbol = new ArbolExpirable();
+        this.arbol.setVisualizacionAutomatica(false);
+        this.colaVencimientos = new TreeSet<>();
+        this.reloj = reloj;
+    }
+
+    /**
+     * Inserta una clave (o renueva su vencimiento si ya existía)
+     * @param clave La clave a insertar
+     * @param ttlMillis Tiempo de vida en milisegundos a partir de ahora; si el
+     *                  vencimiento no cabe en un long, la clave no vence nunca
+     * @throws IllegalArgumentException si ttlMillis es negativo
+     */
+    public synchronized void insertar(int clave, long ttlMillis) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("Tiempo de vida negativo: " + ttlMillis);
+        }
+        long ahora = reloj.getAsLong();
+        expirar(ahora, EXPIRACIONES_POR_OPERACION);
+
+        // Suma saturada: un TTL enorme no debe dar un vencimiento en el pasado
+        long vencimiento = ahora > Long.MAX_VALUE - ttlMillis ? Long.MAX_VALUE : ahora + ttlMillis;
+        NodoExpirable nodo = (NodoExpirable) arbol.buscarNodo(clave);
+        if (nodo == null) {
+            arbol.insertar(clave);
+            nodo = (NodoExpirable) arbol.buscarNodo(clave);
+        } else {
+            colaVencimientos.remove(new Entrada(nodo.vencimiento, clave));
+        }
+        nodo.vencimiento = vencimiento;
+        colaVencimientos.add(new Entrada(vencimiento, clave));
+    }
+
+    /**
+     * Elimina una clave antes de su vencimiento
+     * @param clave La clave a eliminar
+     * @return true si la clave estaba vigente, false en caso contrario
+     */
+    public synchronized boolean eliminar(int clave) {
+        long ahora = reloj.getAsLong();
+        expirar(ahora, EXPIRACIONES_POR_OPERACION);
+
+        NodoExpirable nodo = (NodoExpirable) arbol.buscarNodo(clave);
+        if (nodo == null) {
+            return false;
+        }
+        long vencimiento = nodo.vencimiento;
+        colaVencimientos.remove(new Entrada(vencimiento, clave));
+        arbol.eliminar(clave);
+        return vencimiento > ahora;
+    }
+
+    /**
+     * Indica si una clave está presente y no ha vencido
+     * @param clave La clave a buscar
+     * @return true si la clave está vigente, false en caso contrario
+     */
+    public synchronized boolean contiene(int clave) {
+        long ahora = reloj.getAsLong();
+        expirar(ahora, EXPIRACIONES_POR_OPERACION);
+
+        NodoExpirable nodo = (NodoExpirable) arbol.buscarNodo(clave);
+        return nodo != null && nodo.vencimiento > ahora;
+    }
+
+    /**
+     * Obtiene el número de claves en el índice, incluidas las vencidas que
+     * todavía no se han expulsado
+     * @return El número de claves almacenadas
+     */
+    public synchronized int tamano() {
+        return arbol.tamano();
+    }
+
+    /**
+     * Expulsa todas las claves vencidas hasta el momento
+     * @return El número de claves expulsadas
+     */
+    public synchronized int expirar() {
+        return expirar(reloj.getAsLong(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Expulsa como máximo la cantidad indicada de claves vencidas
+     * @param maximo Número máximo de claves a expulsar
+     * @return El número de claves expulsadas
+     */
+    public synchronized int expirar(int maximo) {
+        return expirar(reloj.getAsLong(), maximo);
+    }
+
+    /**
+     * Expulsa las claves vencidas hasta el momento indicado
+     * @param ahora El tiempo actual en milisegundos
+     * @param maximo Número máximo de claves a expulsar
+     * @return El número de claves expulsadas
+     */
+    private int expirar(long ahora, int maximo) {
+        int expulsadas = 0;
+
+        while (expulsadas < maximo && !colaVencimientos.isEmpty()
+                && colaVencimientos.first().vencimiento <= ahora) {
+            Entrada entrada = colaVencimientos.pollFirst();
+            arbol.eliminar(entrada.clave);
+            expulsadas++;
+        }
+
+        return expulsadas;
+    }
+
+    /**
+     * Inicia un hilo en segundo plano que expulsa claves vencidas por lotes
+     * @param periodoMillis Intervalo entre ciclos de limpieza en milisegundos
+     */
+    public synchronized void iniciarLimpiezaPeriodica(long periodoMillis) {
+        if (limpiador != null) {
+            return;
+        }
+        limpiador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread hilo = new Thread(r, "avl-expiracion");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        limpiador.scheduleWithFixedDelay(() -> {
+            // Lotes acotados: se libera el monitor entre lotes para no bloquear lectores
+            while (expirar(EXPIRACIONES_POR_LOTE) == EXPIRACIONES_POR_LOTE) {
+                Thread.yield();
+            }
+        }, periodoMillis, periodoMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Detiene la limpieza periódica, si estaba activa
+     */
+    public synchronized void detenerLimpieza() {
+        if (limpiador != null) {
+            limpiador.shutdownNow();
+            limpiador = null;
+        }
+    }
+}
@@ -93,24 +93,39 @@ public class AVLTreeExporter {
             return;
         }
         
+        writer.print(fragmentoDOT(nodo));
+        generarDOT(nodo.izquierda, writer);
+        generarDOT(nodo.derecha, writer);
+    }
+    
+    /**
+     * Genera las líneas DOT de un único nodo: su declaración y las aristas
+     * hacia sus hijos (o hacia marcadores NULL)
+     * @param nodo El nodo a describir
+     * @return Las líneas DOT del nodo, cada una terminada en salto de línea
+     */
+    static String fragmentoDOT(Node nodo) {
+        StringBuilder sb = new StringBuilder();
+        String nl = System.lineSeparator();
+        
         // Generar nodo actual
-        writer.println("    node_" + nodo.valor + " [label=\"" + nodo.valor + "\"];");
+        sb.append("    node_" + nodo.valor + " [label=\"" + nodo.valor + "\"];").append(nl);
         
         // Generar conexiones con hijos
         if (nodo.izquierda != null) {
-            writer.println("    node_" + nodo.valor + " -> node_" + nodo.izquierda.valor + " [label=\"L\"];");
-            generarDOT(nodo.izquierda, writer);
+            sb.append("    node_" + nodo.valor + " -> node_" + nodo.izquierda.valor + " [label=\"L\"];").append(nl);
         } else {
-            writer.println("    null_left_" + nodo.valor + " [label=\"NULL\", shape=point];");
-            writer.println("    node_" + nodo.valor + " -> null_left_" + nodo.valor + " [label=\"L\", style=dotted];");
+            sb.append("    null_left_" + nodo.valor + " [label=\"NULL\", shape=point];").append(nl);
+            sb.append("    node_" + nodo.valor + " -> null_left_" + nodo.valor + " [label=\"L\", style=dotted];").append(nl);
         }
         
         if (nodo.derecha != null) {
-            writer.println("    node_" + nodo.valor + " -> node_" + nodo.derecha.valor + " [label=\"R\"];");
-            generarDOT(nodo.derecha, writer);
+            sb.append("    node_" + nodo.valor + " -> node_" + nodo.derecha.valor + " [label=\"R\"];").append(nl);
         } else {
-            writer.println("    null_right_" + nodo.valor + " [label=\"NULL\", shape=point];");
-            writer.println("    node_" + nodo.valor + " -> null_right_" + nodo.valor + " [label=\"R\", style=dotted];");
+            sb.append("    null_right_" + nodo.valor + " [label=\"NULL\", shape=point];").append(nl);
+            sb.append("    node_" + nodo.valor + " -> null_right_" + nodo.valor + " [label=\"R\", style=dotted];").append(nl);
         }
+        
+        return sb.toString();
     }
 }
\ No newline at end of file
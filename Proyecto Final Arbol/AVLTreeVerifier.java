@@ -0,0 +1,279 @@
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Verificador de invariantes de un árbol AVL:
+ * orden BST estricto, alturas almacenadas correctas, |factor de balance| <= 1
+ * y coincidencia del número de nodos con el tamaño registrado.
+ *
+ * Los niveles superiores se reparten en paralelo con fork-join (tantos niveles
+ * como hagan falta para dejar unos 65 mil nodos por tarea); debajo, cada tarea
+ * recorre su subárbol con una pila explícita. Ni la división ni el recorrido
+ * dependen de las alturas almacenadas, así que un árbol corrupto (por ejemplo,
+ * una cadena degenerada con alturas falsas) se reporta sin desbordar la pila.
+ * Sirve tanto en pruebas como en chequeos de salud en producción (el árbol no
+ * debe modificarse durante la verificación).
+ */
+public class AVLTreeVerifier {
+    // Cada tarea secuencial cubre del orden de 2^16 (~65 mil) nodos
+    private static final int LOG_NODOS_POR_TAREA = 16;
+
+    /**
+     * Resultado de una verificación. Si hay varias violaciones, se reporta la
+     * primera en postorden (hijo izquierdo, hijo derecho, nodo).
+     */
+    public static class Reporte {
+        private final long numeroNodos;
+        private final int profundidadMaxima;
+        private final Node nodoInvalido;
+        private final String motivo;
+
+        Reporte(long numeroNodos, int profundidadMaxima, Node nodoInvalido, String motivo) {
+            this.numeroNodos = numeroNodos;
+            this.profundidadMaxima = profundidadMaxima;
+            this.nodoInvalido = nodoInvalido;
+            this.motivo = motivo;
+        }
+
+        /**
+         * @return true si no se encontró ninguna violación
+         */
+        public boolean esValido() {
+            return motivo == null;
+        }
+
+        /**
+         * @return Número de nodos recorridos
+         */
+        public long getNumeroNodos() {
+            return numeroNodos;
+        }
+
+        /**
+         * @return Profundidad máxima encontrada (la raíz tiene profundidad 1)
+         */
+        public int getProfundidadMaxima() {
+            return profundidadMaxima;
+        }
+
+        /**
+         * @return El primer nodo que viola un invariante, o null si no hay
+         *         (o si la violación es del árbol completo, como el tamaño)
+         */
+        public Node getNodoInvalido() {
+            return nodoInvalido;
+        }
+
+        /**
+         * @return Descripción de la violación, o null si el árbol es válido
+         */
+        public String getMotivo() {
+            return motivo;
+        }
+
+        @Override
+        public String toString() {
+            String resumen = "nodos=" + numeroNodos + ", profundidadMaxima=" + profundidadMaxima;
+            if (esValido()) {
+                return "Árbol válido (" + resumen + ")";
+            }
+            return "Árbol inválido: " + motivo + " (" + resumen + ")";
+        }
+    }
+
+    /**
+     * Acumulador del resultado de un subárbol
+     */
+    private static class Resultado {
+        int altura;             // Altura calculada (no la almacenada)
+        long conteo;
+        int profundidadMaxima;
+        Node nodoInvalido;
+        String motivo;
+
+        /**
+         * Registra una violación si todavía no había ninguna
+         */
+        void registrar(Node nodo, String descripcion) {
+            if (motivo == null) {
+                nodoInvalido = nodo;
+                motivo = descripcion;
+            }
+        }
+    }
+
+    /**
+     * Verifica el árbol usando el pool común de fork-join
+     * @param arbol El árbol a verificar
+     * @return El reporte de la verificación
+     */
+    public static Reporte verificar(AVLTree arbol) {
+        return verificar(arbol, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verifica el árbol usando el pool indicado
+     * @param arbol El árbol a verificar
+     * @param pool El pool de fork-join donde ejecutar las tareas
+     * @return El reporte de la verificación
+     */
+    public static Reporte verificar(AVLTree arbol, ForkJoinPool pool) {
+        // Profundidad hasta la que se divide; el tamaño solo orienta el reparto
+        int log2Tamano = 31 - Integer.numberOfLeadingZeros(Math.max(1, arbol.tamano()));
+        int profundidadParalela = Math.max(0, log2Tamano - LOG_NODOS_POR_TAREA);
+        Resultado r = pool.invoke(new Tarea(arbol.getRaiz(), Long.MIN_VALUE, Long.MAX_VALUE, 1,
+                profundidadParalela));
+
+        if (r.conteo != arbol.tamano()) {
+            r.registrar(null, "el tamaño registrado es " + arbol.tamano()
+                    + " pero el árbol tiene " + r.conteo + " nodos");
+        }
+        return new Reporte(r.conteo, r.profundidadMaxima, r.nodoInvalido, r.motivo);
+    }
+
+    /**
+     * Tarea que verifica un subárbol, dividiéndose hasta la profundidad paralela
+     */
+    private static class Tarea extends RecursiveTask<Resultado> {
+        private static final long serialVersionUID = 1L;
+
+        private final Node nodo;
+        private final long inferior;   // Límite inferior exclusivo de las claves
+        private final long superior;   // Límite superior exclusivo de las claves
+        private final int profundidad;
+        private final int profundidadParalela; // Última profundidad que se divide
+
+        Tarea(Node nodo, long inferior, long superior, int profundidad, int profundidadParalela) {
+            this.nodo = nodo;
+            this.inferior = inferior;
+            this.superior = superior;
+            this.profundidad = profundidad;
+            this.profundidadParalela = profundidadParalela;
+        }
+
+        @Override
+        protected Resultado compute() {
+            if (nodo == null || profundidad > profundidadParalela) {
+                Resultado r = new Resultado();
+                r.altura = verificarSecuencial(nodo, inferior, superior, profundidad, r);
+                return r;
+            }
+
+            Tarea izquierda = new Tarea(nodo.izquierda, inferior, nodo.valor, profundidad + 1,
+                    profundidadParalela);
+            Tarea derecha = new Tarea(nodo.derecha, nodo.valor, superior, profundidad + 1,
+                    profundidadParalela);
+            izquierda.fork();
+            Resultado rd = derecha.compute();
+            Resultado ri = izquierda.join();
+
+            // Combinar en postorden: izquierda, derecha, nodo
+            Resultado r = ri;
+            r.registrar(rd.nodoInvalido, rd.motivo);
+            r.conteo += rd.conteo;
+            r.profundidadMaxima = Math.max(ri.profundidadMaxima, rd.profundidadMaxima);
+            r.altura = verificarNodo(nodo, inferior, superior, ri.altura, rd.altura, r);
+            r.conteo++;
+            r.profundidadMaxima = Math.max(r.profundidadMaxima, profundidad);
+            return r;
+        }
+    }
+
+    /**
+     * Marco de la pila explícita del recorrido secuencial
+     */
+    private static class Marco {
+        final Node nodo;
+        final long inferior;
+        final long superior;
+        final int profundidad;
+        int alturaIzquierda;
+        int estado; // 0 = por visitar, 1 = izquierdo listo, 2 = ambos listos
+
+        Marco(Node nodo, long inferior, long superior, int profundidad) {
+            this.nodo = nodo;
+            this.inferior = inferior;
+            this.superior = superior;
+            this.profundidad = profundidad;
+        }
+    }
+
+    /**
+     * Verifica un subárbol en el hilo actual con un recorrido en postorden
+     * iterativo, de modo que la profundidad del árbol no limita la pila
+     * @param nodo La raíz del subárbol
+     * @param inferior Límite inferior exclusivo de las claves
+     * @param superior Límite superior exclusivo de las claves
+     * @param profundidad Profundidad de nodo (la raíz tiene 1)
+     * @param r Acumulador del resultado
+     * @return La altura calculada del subárbol
+     */
+    private static int verificarSecuencial(Node nodo, long inferior, long superior, int profundidad, Resultado r) {
+        if (nodo == null) {
+            return 0;
+        }
+
+        ArrayDeque<Marco> pila = new ArrayDeque<>();
+        pila.push(new Marco(nodo, inferior, superior, profundidad));
+        int altura = 0; // Altura calculada del último subárbol terminado
+
+        while (!pila.isEmpty()) {
+            Marco m = pila.peek();
+            if (m.estado == 0) {
+                m.estado = 1;
+                if (m.nodo.izquierda != null) {
+                    pila.push(new Marco(m.nodo.izquierda, m.inferior, m.nodo.valor, m.profundidad + 1));
+                    continue;
+                }
+                altura = 0;
+            }
+            if (m.estado == 1) {
+                m.alturaIzquierda = altura;
+                m.estado = 2;
+                if (m.nodo.derecha != null) {
+                    pila.push(new Marco(m.nodo.derecha, m.nodo.valor, m.superior, m.profundidad + 1));
+                    continue;
+                }
+                altura = 0;
+            }
+
+            // Ambos hijos verificados: altura contiene la del derecho
+            pila.pop();
+            r.conteo++;
+            if (m.profundidad > r.profundidadMaxima) {
+                r.profundidadMaxima = m.profundidad;
+            }
+            altura = verificarNodo(m.nodo, m.inferior, m.superior, m.alturaIzquierda, altura, r);
+        }
+
+        return altura;
+    }
+
+    /**
+     * Verifica los invariantes de un nodo dados los resultados de sus hijos
+     * @param nodo El nodo a verificar
+     * @param inferior Límite inferior exclusivo de su clave
+     * @param superior Límite superior exclusivo de su clave
+     * @param alturaIzquierda Altura calculada del subárbol izquierdo
+     * @param alturaDerecha Altura calculada del subárbol derecho
+     * @param r Acumulador donde registrar la violación
+     * @return La altura calculada del nodo
+     */
+    private static int verificarNodo(Node nodo, long inferior, long superior,
+                                     int alturaIzquierda, int alturaDerecha, Resultado r) {
+        int altura = Math.max(alturaIzquierda, alturaDerecha) + 1;
+
+        if (nodo.valor <= inferior || nodo.valor >= superior) {
+            r.registrar(nodo, "el valor " + nodo.valor + " rompe el orden BST");
+        } else if (nodo.altura != altura) {
+            r.registrar(nodo, "el nodo " + nodo.valor + " tiene altura " + nodo.altura
+                    + " pero debería ser " + altura);
+        } else if (Math.abs(alturaIzquierda - alturaDerecha) > 1) {
+            r.registrar(nodo, "el nodo " + nodo.valor + " tiene factor de balance "
+                    + (alturaIzquierda - alturaDerecha));
+        }
+
+        return altura;
+    }
+}
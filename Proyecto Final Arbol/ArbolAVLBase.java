@@ -0,0 +1,128 @@
+/**
+ * Código de balanceo AVL compartido por AVLTree, AVLIntervalTree y
+ * AVLTreeCubetas: alturas, factor de balance, rotaciones simples y los casos
+ * LL, LR, RR y RL.
+ *
+ * Cada vez que cambian los hijos de un nodo se recalcula su altura y se llama
+ * a actualizar(nodo), de modo que cada árbol mantenga ahí los datos que
+ * dependen del subárbol (agregados, fin máximo de los intervalos, etc.).
+ *
+ * @param <N> El tipo de nodo del árbol
+ */
+public abstract class ArbolAVLBase<N extends NodoAVL<N>> {
+    
+    /**
+     * Obtiene la altura de un nodo (o 0 si es null)
+     * @param nodo El nodo cuya altura se desea obtener
+     * @return La altura del nodo, o 0 si el nodo es null
+     */
+    int getAltura(N nodo) {
+        if (nodo == null) {
+            return 0;
+        }
+        return nodo.altura;
+    }
+    
+    /**
+     * Calcula el factor de balance para un nodo
+     * @param nodo El nodo para calcular su factor de balance
+     * @return altura(izquierda) - altura(derecha)
+     */
+    int getFactorBalance(N nodo) {
+        if (nodo == null) {
+            return 0;
+        }
+        return getAltura(nodo.izquierda) - getAltura(nodo.derecha);
+    }
+    
+    /**
+     * Actualiza la altura de un nodo basado en la altura de sus hijos, y luego
+     * los datos propios del árbol mediante actualizar(nodo)
+     * @param nodo El nodo cuya altura se actualizará
+     */
+    void actualizarAltura(N nodo) {
+        if (nodo != null) {
+            nodo.altura = Math.max(getAltura(nodo.izquierda), getAltura(nodo.derecha)) + 1;
+            actualizar(nodo);
+        }
+    }
+    
+    /**
+     * Recalcula los datos del nodo que dependen de sus hijos (además de la
+     * altura). Por defecto no hace nada.
+     * @param nodo El nodo cuyos hijos cambiaron
+     */
+    void actualizar(N nodo) {
+    }
+    
+    /**
+     * Realiza una rotación simple a la derecha
+     * @param y El nodo sobre el cual se realiza la rotación
+     * @return La nueva raíz del subárbol rotado
+     */
+    N rotarDerecha(N y) {
+        N x = y.izquierda;
+        N T2 = x.derecha;
+        
+        // Realizar rotación
+        x.derecha = y;
+        y.izquierda = T2;
+        
+        // Actualizar alturas (primero el nodo que queda abajo)
+        actualizarAltura(y);
+        actualizarAltura(x);
+        
+        // Retornar nueva raíz
+        return x;
+    }
+    
+    /**
+     * Realiza una rotación simple a la izquierda
+     * @param x El nodo sobre el cual se realiza la rotación
+     * @return La nueva raíz del subárbol rotado
+     */
+    N rotarIzquierda(N x) {
+        N y = x.derecha;
+        N T2 = y.izquierda;
+        
+        // Realizar rotación
+        y.izquierda = x;
+        x.derecha = T2;
+        
+        // Actualizar alturas (primero el nodo que queda abajo)
+        actualizarAltura(x);
+        actualizarAltura(y);
+        
+        // Retornar nueva raíz
+        return y;
+    }
+    
+    /**
+     * Recalcula la altura de un nodo y aplica la rotación que corresponda
+     * según su factor de balance (casos LL, LR, RR y RL)
+     * @param nodo El nodo a balancear
+     * @return La nueva raíz del subárbol balanceado
+     */
+    N balancear(N nodo) {
+        actualizarAltura(nodo);
+        int balance = getFactorBalance(nodo);
+        
+        if (balance > 1) {
+            // Caso Izquierda-Derecha: primero se reduce a Izquierda-Izquierda
+            if (getFactorBalance(nodo.izquierda) < 0) {
+                nodo.izquierda = rotarIzquierda(nodo.izquierda);
+            }
+            return rotarDerecha(nodo);
+        }
+        
+        if (balance < -1) {
+            // Caso Derecha-Izquierda: primero se reduce a Derecha-Derecha
+            if (getFactorBalance(nodo.derecha) > 0) {
+                nodo.derecha = rotarDerecha(nodo.derecha);
+            }
+            return rotarIzquierda(nodo);
+        }
+        
+        return nodo;
+    }
+}
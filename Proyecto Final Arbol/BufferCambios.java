@@ -0,0 +1,118 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular sin bloqueos con un solo productor y varios consumidores,
+ * usado para transmitir los cambios del árbol líder a sus réplicas.
+ *
+ * Cada cambio recibe un número de secuencia (0, 1, 2, ...) y se guarda en una
+ * sola palabra long junto con los bits bajos de esa secuencia. Así un
+ * consumidor detecta, sin bloqueos, si el productor ya sobrescribió la entrada
+ * que intentaba leer (el consumidor se quedó demasiado atrás). El productor
+ * nunca espera a los consumidores.
+ */
+public class BufferCambios {
+    public static final int INSERCION = 1;
+    public static final int ELIMINACION = 2;
+    public static final int ELIMINACION_RANGO = 3; // Ocupa dos entradas: desde y hasta
+
+    private static final int BITS_ETIQUETA = 30;
+    private static final long MASCARA_ETIQUETA = (1L << BITS_ETIQUETA) - 1;
+
+    private final AtomicLongArray entradas;
+    private final int mascara;
+    private final AtomicLong publicados = new AtomicLong(); // Secuencias visibles: [0, publicados)
+    private long escritos; // Solo lo usa el productor
+
+    /**
+     * Constructor que crea un buffer con la capacidad indicada
+     * @param capacidad Número de entradas; se redondea a la siguiente potencia de 2
+     * @throws IllegalArgumentException si la capacidad no está entre 1 y 2^29
+     */
+    public BufferCambios(int capacidad) {
+        if (capacidad < 1 || capacidad > (1 << (BITS_ETIQUETA - 1))) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacidad);
+        }
+        int tamano = Integer.highestOneBit(capacidad);
+        if (tamano < capacidad) {
+            tamano <<= 1;
+        }
+        this.entradas = new AtomicLongArray(tamano);
+        this.mascara = tamano - 1;
+    }
+
+    /**
+     * Obtiene la capacidad del buffer
+     * @return El número de entradas
+     */
+    public int capacidad() {
+        return mascara + 1;
+    }
+
+    /**
+     * Escribe y publica un cambio. Solo debe llamarlo un único productor.
+     * @param tipo INSERCION o ELIMINACION (los rangos usan publicarRango)
+     * @param valor El valor afectado
+     */
+    public void publicar(int tipo, int valor) {
+        long secuencia = escritos++;
+        entradas.lazySet((int) (secuencia & mascara), codificar(secuencia, tipo, valor));
+        publicados.lazySet(escritos);
+    }
+
+    /**
+     * Escribe y publica la eliminación de un rango como dos entradas
+     * consecutivas, visibles a la vez. Solo debe llamarlo un único productor.
+     * @param desde Límite inferior del rango (inclusivo)
+     * @param hasta Límite superior del rango (inclusivo)
+     */
+    public void publicarRango(int desde, int hasta) {
+        long secuencia = escritos;
+        entradas.lazySet((int) (secuencia & mascara), codificar(secuencia, ELIMINACION_RANGO, desde));
+        entradas.lazySet((int) ((secuencia + 1) & mascara), codificar(secuencia + 1, ELIMINACION_RANGO, hasta));
+        escritos += 2;
+        publicados.lazySet(escritos);
+    }
+
+    /**
+     * Obtiene el número de cambios publicados (la siguiente secuencia a escribir)
+     * @return El número de cambios publicados
+     */
+    public long publicados() {
+        return publicados.get();
+    }
+
+    /**
+     * Lee un lote de cambios publicados a partir de una secuencia
+     * @param desde Primera secuencia a leer
+     * @param tipos Arreglo donde guardar los tipos leídos
+     * @param valores Arreglo donde guardar los valores leídos
+     * @return El número de cambios leídos (0 si no hay nuevos), o -1 si alguno
+     *         ya fue sobrescrito y el consumidor debe resincronizarse
+     */
+    public int leer(long desde, int[] tipos, int[] valores) {
+        long hasta = publicados.get();
+        if (hasta - desde > capacidad()) {
+            return -1;
+        }
+
+        int cantidad = (int) Math.min(hasta - desde, tipos.length);
+        for (int i = 0; i < cantidad; i++) {
+            long secuencia = desde + i;
+            long entrada = entradas.get((int) (secuencia & mascara));
+            if ((entrada >>> 34) != (secuencia & MASCARA_ETIQUETA)) {
+                return -1; // El productor dio la vuelta y reutilizó la entrada
+            }
+            tipos[i] = (int) (entrada >>> 32) & 0x3;
+            valores[i] = (int) entrada;
+        }
+        return cantidad;
+    }
+
+    /**
+     * Empaqueta secuencia (30 bits bajos), tipo (2 bits) y valor (32 bits)
+     */
+    private static long codificar(long secuencia, int tipo, int valor) {
+        return ((secuencia & MASCARA_ETIQUETA) << 34) | ((long) tipo << 32) | (valor & 0xFFFFFFFFL);
+    }
+}
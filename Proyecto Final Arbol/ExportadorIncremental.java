@@ -0,0 +1,180 @@
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exportador incremental de un árbol AVL.
+ *
+ * Mantiene en memoria el fragmento DOT de cada nodo y, en cada exportación,
+ * solo regenera los fragmentos de los nodos que cambiaron (el camino de la
+ * inserción o eliminación y los nodos rotados), en lugar de recorrer el árbol
+ * completo. Además puede emitir solo los cambios (deltas) respecto de la
+ * exportación anterior, en formato DOT o de texto, con costo O(log n) por cambio.
+ *
+ * Cada árbol tiene un único exportador, que se obtiene con
+ * AVLTree.getExportadorIncremental().
+ */
+public class ExportadorIncremental {
+    private final AVLTree arbol;
+    private final Map<Integer, String> fragmentosDOT = new TreeMap<>(); // Valor -> líneas DOT
+    private StringBuilder deltaDOT;   // Cambios pendientes de exportarCambiosDOT (null si nunca se usó)
+    private StringBuilder deltaTexto; // Cambios pendientes de exportarCambiosTexto (null si nunca se usó)
+    
+    /**
+     * Constructor que activa el seguimiento de cambios en el árbol
+     * @param arbol El árbol a exportar
+     */
+    ExportadorIncremental(AVLTree arbol) {
+        this.arbol = arbol;
+        arbol.activarSeguimientoCambios();
+    }
+    
+    /**
+     * Exporta el árbol completo a un archivo DOT, regenerando solo los
+     * fragmentos de los nodos modificados desde la exportación anterior
+     * @param nombreArchivo El nombre del archivo donde guardar la exportación
+     * @return true si la exportación fue exitosa, false en caso contrario
+     */
+    public boolean exportarADOT(String nombreArchivo) {
+        sincronizar();
+        
+        try (PrintWriter writer = new PrintWriter(new FileWriter(nombreArchivo))) {
+            writer.println("digraph AVLTree {");
+            writer.println("    node [shape=circle, fontname=\"Arial\", fontsize=12];");
+            writer.println("    edge [arrowhead=vee, arrowsize=0.8];");
+            
+            if (fragmentosDOT.isEmpty()) {
+                writer.println("    empty [label=\"Árbol vacío\", shape=plaintext];");
+            }
+            for (String fragmento : fragmentosDOT.values()) {
+                writer.print(fragmento);
+            }
+            
+            writer.println("}");
+            
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error al exportar el árbol a DOT: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Agrega al archivo los cambios DOT desde la llamada anterior: una línea
+     * "- node_V" por cada nodo eliminado y "+" seguido del fragmento de cada
+     * nodo nuevo o modificado. La primera llamada emite el árbol completo.
+     * @param nombreArchivo El archivo de deltas (se abre en modo anexar)
+     * @return true si la exportación fue exitosa, false en caso contrario
+     */
+    public boolean exportarCambiosDOT(String nombreArchivo) {
+        sincronizar();
+        
+        if (deltaDOT == null) {
+            deltaDOT = new StringBuilder();
+            for (String fragmento : fragmentosDOT.values()) {
+                deltaDOT.append("+").append(System.lineSeparator()).append(fragmento);
+            }
+        }
+        boolean resultado = anexar(nombreArchivo, deltaDOT);
+        deltaDOT.setLength(0);
+        return resultado;
+    }
+    
+    /**
+     * Agrega al archivo los cambios en texto desde la llamada anterior:
+     * "- V" por cada valor eliminado y "+ V altura=H izquierda=I derecha=D"
+     * por cada nodo nuevo o modificado. La primera llamada emite el árbol completo.
+     * @param nombreArchivo El archivo de deltas (se abre en modo anexar)
+     * @return true si la exportación fue exitosa, false en caso contrario
+     */
+    public boolean exportarCambiosTexto(String nombreArchivo) {
+        sincronizar();
+        
+        if (deltaTexto == null) {
+            deltaTexto = new StringBuilder();
+            agregarSubarbolTexto(arbol.getRaiz());
+        }
+        boolean resultado = anexar(nombreArchivo, deltaTexto);
+        deltaTexto.setLength(0);
+        return resultado;
+    }
+    
+    /**
+     * Aplica los cambios pendientes del árbol a los fragmentos en memoria y a
+     * los deltas en uso. Primero se procesan las eliminaciones y luego los
+     * nodos modificados, de modo que un valor eliminado y reinsertado (o
+     * copiado desde el sucesor) termine con su fragmento actual.
+     */
+    private void sincronizar() {
+        String nl = System.lineSeparator();
+        
+        for (int valor : arbol.tomarValoresEliminados()) {
+            fragmentosDOT.remove(valor);
+            if (deltaDOT != null) {
+                deltaDOT.append("- node_").append(valor).append(nl);
+            }
+            if (deltaTexto != null) {
+                deltaTexto.append("- ").append(valor).append(nl);
+            }
+        }
+        
+        for (Node nodo : arbol.tomarNodosModificados()) {
+            if (!nodo.modificado) {
+                continue; // Se eliminó después de marcarse
+            }
+            nodo.modificado = false;
+            
+            String fragmento = AVLTreeExporter.fragmentoDOT(nodo);
+            fragmentosDOT.put(nodo.valor, fragmento);
+            if (deltaDOT != null) {
+                deltaDOT.append("+").append(nl).append(fragmento);
+            }
+            if (deltaTexto != null) {
+                agregarNodoTexto(nodo);
+            }
+        }
+    }
+    
+    /**
+     * Método recursivo que agrega al delta de texto todos los nodos de un subárbol
+     * @param nodo La raíz del subárbol
+     */
+    private void agregarSubarbolTexto(Node nodo) {
+        if (nodo == null) {
+            return;
+        }
+        agregarSubarbolTexto(nodo.izquierda);
+        agregarNodoTexto(nodo);
+        agregarSubarbolTexto(nodo.derecha);
+    }
+    
+    /**
+     * Agrega al delta de texto la línea que describe un nodo
+     * @param nodo El nodo a describir
+     */
+    private void agregarNodoTexto(Node nodo) {
+        deltaTexto.append("+ ").append(nodo.valor)
+                  .append(" altura=").append(nodo.altura)
+                  .append(" izquierda=").append(nodo.izquierda != null ? String.valueOf(nodo.izquierda.valor) : "NULL")
+                  .append(" derecha=").append(nodo.derecha != null ? String.valueOf(nodo.derecha.valor) : "NULL")
+                  .append(System.lineSeparator());
+    }
+    
+    /**
+     * Agrega un bloque de texto al final de un archivo
+     * @param nombreArchivo El archivo destino
+     * @param contenido El texto a agregar
+     * @return true si la escritura fue exitosa, false en caso contrario
+     */
+    private static boolean anexar(String nombreArchivo, CharSequence contenido) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(nombreArchivo, true))) {
+            writer.print(contenido);
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error al exportar los cambios del árbol: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Filtro de Bloom con contadores, que admite eliminaciones.
+ * Responde "definitivamente no está" o "puede estar"; la tasa de falsos
+ * positivos se fija al crearlo según la capacidad esperada.
+ *
+ * Cada posición es un contador de 8 bits; un contador que llega a 255 queda
+ * saturado y ya no se decrementa (puede aumentar falsos positivos, nunca
+ * produce falsos negativos). También lleva métricas de uso.
+ */
+public class FiltroBloomContador {
+    private static final int SATURADO = 0xFF;
+
+    private final byte[] contadores;
+    private final int numeroHashes;
+    private final int capacidad;
+    private final double tasaFalsosPositivos;
+
+    private long consultas;            // Llamadas a puedeContener
+    private long negativosDefinitivos; // Consultas resueltas sin tocar el árbol
+    private long falsosPositivos;      // "Puede estar" que resultaron ausentes
+
+    /**
+     * Constructor que dimensiona el filtro para una capacidad y tasa de error
+     * @param capacidad Número esperado de elementos
+     * @param tasaFalsosPositivos Tasa de falsos positivos deseada (entre 0 y 1)
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango
+     */
+    public FiltroBloomContador(int capacidad, double tasaFalsosPositivos) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva");
+        }
+        if (!(tasaFalsosPositivos > 0 && tasaFalsosPositivos < 1)) {
+            throw new IllegalArgumentException("La tasa de falsos positivos debe estar entre 0 y 1");
+        }
+        // m = -n ln(p) / ln(2)^2 ; k = (m / n) ln(2)
+        long posiciones = (long) Math.ceil(-capacidad * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+        posiciones = Math.max(64, Math.min(posiciones, Integer.MAX_VALUE - 8));
+        this.contadores = new byte[(int) posiciones];
+        this.numeroHashes = Math.max(1, (int) Math.round((double) posiciones / capacidad * Math.log(2)));
+        this.capacidad = capacidad;
+        this.tasaFalsosPositivos = tasaFalsosPositivos;
+    }
+
+    /**
+     * Agrega un valor al filtro
+     * @param valor El valor a agregar
+     */
+    public void agregar(int valor) {
+        long hash = mezclar(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            int posicion = posicion(h1 + i * h2);
+            int contador = contadores[posicion] & 0xFF;
+            if (contador < SATURADO) {
+                contadores[posicion] = (byte) (contador + 1);
+            }
+        }
+    }
+
+    /**
+     * Quita un valor del filtro. Solo debe llamarse para valores agregados antes.
+     * @param valor El valor a quitar
+     */
+    public void quitar(int valor) {
+        long hash = mezclar(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            int posicion = posicion(h1 + i * h2);
+            int contador = contadores[posicion] & 0xFF;
+            if (contador > 0 && contador < SATURADO) {
+                contadores[posicion] = (byte) (contador - 1);
+            }
+        }
+    }
+
+    /**
+     * Consulta el filtro y actualiza las métricas
+     * @param valor El valor a consultar
+     * @return false si el valor definitivamente no está, true si puede estar
+     */
+    public boolean puedeContener(int valor) {
+        consultas++;
+        long hash = mezclar(valor);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < numeroHashes; i++) {
+            if (contadores[posicion(h1 + i * h2)] == 0) {
+                negativosDefinitivos++;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Registra que una respuesta "puede estar" resultó ser un falso positivo
+     */
+    void registrarFalsoPositivo() {
+        falsosPositivos++;
+    }
+
+    /**
+     * Suma a este filtro las métricas de otro al que reemplaza
+     * @param anterior El filtro reemplazado
+     */
+    void heredarMetricas(FiltroBloomContador anterior) {
+        consultas += anterior.consultas;
+        negativosDefinitivos += anterior.negativosDefinitivos;
+        falsosPositivos += anterior.falsosPositivos;
+    }
+
+    /**
+     * @return El número de elementos para el que se dimensionó el filtro
+     */
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * @return La tasa de falsos positivos configurada
+     */
+    public double getTasaFalsosPositivos() {
+        return tasaFalsosPositivos;
+    }
+
+    /**
+     * @return El número de consultas realizadas
+     */
+    public long getConsultas() {
+        return consultas;
+    }
+
+    /**
+     * @return Las consultas descartadas por el filtro sin tocar el árbol
+     */
+    public long getNegativosDefinitivos() {
+        return negativosDefinitivos;
+    }
+
+    /**
+     * @return Las consultas que pasaron el filtro pero no estaban en el árbol
+     */
+    public long getFalsosPositivos() {
+        return falsosPositivos;
+    }
+
+    /**
+     * Proporción de consultas resueltas solo con el filtro
+     * @return negativosDefinitivos / consultas (0 si no hubo consultas)
+     */
+    public double getTasaAciertoFiltro() {
+        return consultas == 0 ? 0.0 : (double) negativosDefinitivos / consultas;
+    }
+
+    /**
+     * Proporción observada de falsos positivos entre las consultas de valores ausentes
+     * @return falsosPositivos / (falsosPositivos + negativosDefinitivos)
+     */
+    public double getTasaFalsosPositivosObservada() {
+        long ausentes = falsosPositivos + negativosDefinitivos;
+        return ausentes == 0 ? 0.0 : (double) falsosPositivos / ausentes;
+    }
+
+    /**
+     * Convierte un hash en una posición del arreglo de contadores
+     */
+    private int posicion(int hash) {
+        return (int) ((hash & 0xFFFFFFFFL) % contadores.length);
+    }
+
+    /**
+     * Función de mezcla de 64 bits (finalizador de SplitMix64)
+     */
+    private static long mezclar(int valor) {
+        long z = valor * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
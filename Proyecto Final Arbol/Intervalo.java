@@ -0,0 +1,80 @@
+/**
+ * Intervalo cerrado [inicio, fin] de valores long (por ejemplo, marcas de tiempo).
+ * Es inmutable; se ordena por inicio y, a igual inicio, por fin.
+ */
+public class Intervalo implements Comparable<Intervalo> {
+    private final long inicio;
+    private final long fin;
+    
+    /**
+     * Constructor que crea el intervalo [inicio, fin]
+     * @param inicio Extremo inferior (inclusivo)
+     * @param fin Extremo superior (inclusivo)
+     * @throws IllegalArgumentException si inicio > fin
+     */
+    public Intervalo(long inicio, long fin) {
+        if (inicio > fin) {
+            throw new IllegalArgumentException("Intervalo inválido: [" + inicio + ", " + fin + "]");
+        }
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+    
+    /**
+     * @return El extremo inferior del intervalo
+     */
+    public long getInicio() {
+        return inicio;
+    }
+    
+    /**
+     * @return El extremo superior del intervalo
+     */
+    public long getFin() {
+        return fin;
+    }
+    
+    /**
+     * Indica si el intervalo contiene un punto
+     * @param punto El punto a comprobar
+     * @return true si inicio <= punto <= fin
+     */
+    public boolean contiene(long punto) {
+        return inicio <= punto && punto <= fin;
+    }
+    
+    /**
+     * Indica si este intervalo se solapa con [otroInicio, otroFin]
+     * @param otroInicio Extremo inferior del otro intervalo
+     * @param otroFin Extremo superior del otro intervalo
+     * @return true si comparten al menos un punto
+     */
+    public boolean seSolapa(long otroInicio, long otroFin) {
+        return inicio <= otroFin && otroInicio <= fin;
+    }
+    
+    @Override
+    public int compareTo(Intervalo otro) {
+        int comparacion = Long.compare(inicio, otro.inicio);
+        return comparacion != 0 ? comparacion : Long.compare(fin, otro.fin);
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Intervalo)) {
+            return false;
+        }
+        Intervalo otro = (Intervalo) obj;
+        return inicio == otro.inicio && fin == otro.fin;
+    }
+    
+    @Override
+    public int hashCode() {
+        return Long.hashCode(inicio) * 31 + Long.hashCode(fin);
+    }
+    
+    @Override
+    public String toString() {
+        return "[" + inicio + ", " + fin + "]";
+    }
+}
@@ -0,0 +1,69 @@
+import java.util.function.IntToLongFunction;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Monoide asociativo que un AVLTree puede mantener en cada nodo para responder
+ * consultas de agregado sobre rangos de claves en O(log n).
+ * La operación combinar debe ser asociativa y tener a identidad() como neutro;
+ * no necesita ser conmutativa (los agregados se combinan siempre en orden).
+ */
+public interface MonoidAgregado {
+
+    /** Suma de las claves */
+    MonoidAgregado SUMA = de(0L, clave -> clave, Long::sum);
+
+    /** Número de claves */
+    MonoidAgregado CONTEO = de(0L, clave -> 1L, Long::sum);
+
+    /** Clave mínima (Long.MAX_VALUE si el rango está vacío) */
+    MonoidAgregado MINIMO = de(Long.MAX_VALUE, clave -> clave, Math::min);
+
+    /** Clave máxima (Long.MIN_VALUE si el rango está vacío) */
+    MonoidAgregado MAXIMO = de(Long.MIN_VALUE, clave -> clave, Math::max);
+
+    /**
+     * @return El elemento neutro del monoide (agregado de un rango vacío)
+     */
+    long identidad();
+
+    /**
+     * Convierte una clave en el agregado de un único elemento
+     * @param clave La clave almacenada en el nodo
+     * @return El agregado correspondiente a esa clave
+     */
+    long valor(int clave);
+
+    /**
+     * Combina dos agregados de rangos contiguos (a a la izquierda de b)
+     * @param a Agregado del rango izquierdo
+     * @param b Agregado del rango derecho
+     * @return El agregado de la unión de ambos rangos
+     */
+    long combinar(long a, long b);
+
+    /**
+     * Crea un monoide a partir de sus componentes
+     * @param identidad El elemento neutro
+     * @param valor Conversión de una clave en agregado
+     * @param combinar Operación asociativa de combinación
+     * @return El monoide resultante
+     */
+    static MonoidAgregado de(long identidad, IntToLongFunction valor, LongBinaryOperator combinar) {
+        return new MonoidAgregado() {
+            @Override
+            public long identidad() {
+                return identidad;
+            }
+
+            @Override
+            public long valor(int clave) {
+                return valor.applyAsLong(clave);
+            }
+
+            @Override
+            public long combinar(long a, long b) {
+                return combinar.applyAsLong(a, b);
+            }
+        };
+    }
+}
@@ -3,11 +3,9 @@
  * Cada nodo contiene un valor entero, referencias a sus hijos izquierdo y derecho,
  * y su altura para mantener el balance del árbol.
  */
-public class Node {
+public class Node extends NodoAVL<Node> {
     int valor;          // Valor almacenado en el nodo
-    Node izquierda;     // Referencia al hijo izquierdo
-    Node derecha;       // Referencia al hijo derecho
-    int altura;         // Altura del nodo (para el balanceo AVL)
+    boolean modificado; // Cambió desde la última exportación incremental
     
     /**
      * Constructor que inicializa un nodo con un valor específico.
@@ -21,4 +19,15 @@ public class Node {
         this.izquierda = null;
         this.derecha = null;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Copia en este nodo el valor de otro nodo (al eliminar un nodo con dos
+     * hijos, se copia el de su sucesor). Las subclases que guardan datos junto
+     * al valor deben copiarlos también.
+     * 
+     * @param origen El nodo cuyo valor se copia
+     */
+    void copiarValor(Node origen) {
+        this.valor = origen.valor;
+    }
+}
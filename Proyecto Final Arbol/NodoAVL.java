@@ -0,0 +1,12 @@
+/**
+ * Parte común de los nodos de los árboles AVL del proyecto: referencias a los
+ * hijos y altura. Cada tipo de nodo (Node, NodoIntervalo, NodoCubeta) la
+ * extiende con su propia clave y datos, y ArbolAVLBase la usa para balancear.
+ *
+ * @param <N> El tipo concreto del nodo (el de sus hijos)
+ */
+public abstract class NodoAVL<N extends NodoAVL<N>> {
+    N izquierda;        // Referencia al hijo izquierdo
+    N derecha;          // Referencia al hijo derecho
+    int altura;         // Altura del nodo (para el balanceo AVL)
+}
@@ -0,0 +1,20 @@
+/**
+ * Nodo de un árbol AVL que además guarda el agregado (según un MonoidAgregado)
+ * de todas las claves de su subárbol.
+ * Solo se usa cuando el árbol se crea con un monoide, de modo que los árboles
+ * sin agregado no pagan el campo extra.
+ */
+public class NodoAgregado extends Node {
+    long agregado;      // Agregado de las claves del subárbol con raíz en este nodo
+    
+    /**
+     * Constructor que inicializa un nodo hoja con su agregado.
+     * 
+     * @param valor El valor entero a almacenar en el nodo
+     * @param agregado El agregado de la clave (como subárbol de un solo nodo)
+     */
+    public NodoAgregado(int valor, long agregado) {
+        super(valor);
+        this.agregado = agregado;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Clase que representa un nodo cubeta de un AVLTreeCubetas.
+ * En lugar de un único valor guarda un arreglo ordenado de claves; todas las
+ * claves del subárbol izquierdo son menores que la primera y todas las del
+ * subárbol derecho son mayores que la última.
+ */
+public class NodoCubeta extends NodoAVL<NodoCubeta> {
+    int[] claves;           // Claves ordenadas (solo las primeras 'cantidad' son válidas)
+    int cantidad;           // Número de claves almacenadas
+    
+    /**
+     * Constructor que crea una cubeta hoja con una sola clave.
+     * 
+     * @param capacidad Número máximo de claves de la cubeta
+     * @param clave La clave inicial
+     */
+    public NodoCubeta(int capacidad, int clave) {
+        this.claves = new int[capacidad];
+        this.claves[0] = clave;
+        this.cantidad = 1;
+        this.altura = 1;  // Inicialmente un nodo nuevo es una hoja (altura 1)
+    }
+    
+    /**
+     * Constructor que crea una cubeta hoja a partir de claves ya ordenadas.
+     * 
+     * @param claves Arreglo de claves (de tamaño igual a la capacidad)
+     * @param cantidad Número de claves válidas al inicio del arreglo
+     */
+    public NodoCubeta(int[] claves, int cantidad) {
+        this.claves = claves;
+        this.cantidad = cantidad;
+        this.altura = 1;
+    }
+    
+    /**
+     * @return La menor clave de la cubeta
+     */
+    int minimo() {
+        return claves[0];
+    }
+    
+    /**
+     * @return La mayor clave de la cubeta
+     */
+    int maximo() {
+        return claves[cantidad - 1];
+    }
+}
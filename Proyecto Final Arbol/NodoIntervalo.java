@@ -0,0 +1,22 @@
+/**
+ * Clase que representa un nodo en un árbol de intervalos AVL.
+ * Además del intervalo, sus hijos y su altura, guarda el mayor extremo
+ * final de todos los intervalos de su subárbol para podar las búsquedas.
+ */
+public class NodoIntervalo extends NodoAVL<NodoIntervalo> {
+    Intervalo intervalo;    // Intervalo almacenado en el nodo (clave del orden)
+    long finMaximo;         // Mayor fin de los intervalos del subárbol
+    
+    /**
+     * Constructor que inicializa un nodo hoja con un intervalo.
+     * 
+     * @param intervalo El intervalo a almacenar en el nodo
+     */
+    public NodoIntervalo(Intervalo intervalo) {
+        this.intervalo = intervalo;
+        this.altura = 1;  // Inicialmente un nodo nuevo es una hoja (altura 1)
+        this.finMaximo = intervalo.getFin();
+        this.izquierda = null;
+        this.derecha = null;
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Receptor de los cambios efectivos de un AVLTree.
+ * Se invoca después de cada inserción o eliminación que realmente modificó el
+ * árbol (los duplicados y las eliminaciones de valores ausentes no se notifican).
+ */
+public interface OyenteCambios {
+
+    /**
+     * Se invoca después de insertar un valor nuevo
+     * @param valor El valor insertado
+     */
+    void alInsertar(int valor);
+
+    /**
+     * Se invoca después de eliminar un valor existente
+     * @param valor El valor eliminado
+     */
+    void alEliminar(int valor);
+
+    /**
+     * Se invoca después de eliminar al menos un valor con removeRange,
+     * headTruncate o tailTruncate
+     * @param desde Límite inferior del rango eliminado (inclusivo)
+     * @param hasta Límite superior del rango eliminado (inclusivo)
+     */
+    void alEliminarRango(int desde, int hasta);
+}
@@ -0,0 +1,183 @@
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Réplica de solo lectura de un ReplicacionLider.
+ *
+ * Aplica por lotes los cambios del buffer del líder, ya sea llamando a
+ * aplicarPendientes() o desde su propio hilo (iniciar()). Las lecturas solo se
+ * coordinan con el aplicador de esta réplica, nunca con el líder. Si la réplica
+ * se queda más atrás que la capacidad del buffer, se reconstruye desde una
+ * instantánea del líder.
+ */
+public class ReplicaSeguidora {
+    private static final int TAMANO_LOTE = 4096;
+    private static final long ESPERA_SIN_CAMBIOS_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final ReplicacionLider lider;
+    private final BufferCambios buffer;
+    private final ReentrantReadWriteLock cerrojo = new ReentrantReadWriteLock();
+    private final int[] tipos = new int[TAMANO_LOTE];
+    private final int[] valores = new int[TAMANO_LOTE];
+
+    private AVLTree arbol;        // Protegido por cerrojo
+    private long leidos;          // Siguiente secuencia a aplicar (solo la usa el aplicador)
+    private volatile int resincronizaciones;
+    private volatile Thread hilo;
+
+    /**
+     * Constructor que crea la réplica desde una instantánea del líder
+     * @param lider El líder a replicar
+     */
+    ReplicaSeguidora(ReplicacionLider lider) {
+        this.lider = lider;
+        this.buffer = lider.getBuffer();
+        resincronizar();
+        this.resincronizaciones = 0;
+    }
+
+    /**
+     * Busca un valor en la réplica
+     * @param valor El valor a buscar
+     * @return true si el valor existe en la réplica, false en caso contrario
+     */
+    public boolean buscar(int valor) {
+        cerrojo.readLock().lock();
+        try {
+            return arbol.buscar(valor);
+        } finally {
+            cerrojo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de valores de la réplica
+     * @return El número de valores
+     */
+    public int tamano() {
+        cerrojo.readLock().lock();
+        try {
+            return arbol.tamano();
+        } finally {
+            cerrojo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene la secuencia hasta la que la réplica aplicó cambios
+     * @return El número de cambios del líder ya reflejados
+     */
+    public long getSecuencia() {
+        cerrojo.readLock().lock();
+        try {
+            return leidos;
+        } finally {
+            cerrojo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene cuántas veces la réplica tuvo que reconstruirse desde una instantánea
+     * @return El número de resincronizaciones
+     */
+    public int getResincronizaciones() {
+        return resincronizaciones;
+    }
+
+    /**
+     * Aplica un lote de cambios pendientes del líder. No debe llamarse desde
+     * varios hilos a la vez ni mientras el hilo de la réplica esté activo.
+     * @return El número de cambios aplicados (0 si estaba al día)
+     */
+    public int aplicarPendientes() {
+        int cantidad = buffer.leer(leidos, tipos, valores);
+        if (cantidad < 0) {
+            resincronizar();
+            return 0;
+        }
+        if (cantidad == 0) {
+            return 0;
+        }
+
+        // Un rango ocupa dos entradas; si el lote lo corta, se deja para el siguiente
+        int completos = 0;
+        while (completos < cantidad) {
+            int ancho = (tipos[completos] == BufferCambios.ELIMINACION_RANGO) ? 2 : 1;
+            if (completos + ancho > cantidad) {
+                break;
+            }
+            completos += ancho;
+        }
+        cantidad = completos;
+        if (cantidad == 0) {
+            return 0;
+        }
+
+        cerrojo.writeLock().lock();
+        try {
+            for (int i = 0; i < cantidad; i++) {
+                if (tipos[i] == BufferCambios.INSERCION) {
+                    arbol.insertar(valores[i]);
+                } else if (tipos[i] == BufferCambios.ELIMINACION) {
+                    arbol.eliminar(valores[i]);
+                } else {
+                    arbol.removeRange(valores[i], valores[i + 1]);
+                    i++;
+                }
+            }
+            leidos += cantidad;
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+        return cantidad;
+    }
+
+    /**
+     * Inicia un hilo que aplica los cambios del líder de forma continua
+     */
+    public synchronized void iniciar() {
+        if (hilo != null) {
+            return;
+        }
+        Thread nuevo = new Thread(() -> {
+            while (hilo == Thread.currentThread()) {
+                if (aplicarPendientes() == 0) {
+                    LockSupport.parkNanos(ESPERA_SIN_CAMBIOS_NANOS);
+                }
+            }
+        }, "avl-replica");
+        nuevo.setDaemon(true);
+        hilo = nuevo;
+        nuevo.start();
+    }
+
+    /**
+     * Detiene el hilo de aplicación y espera a que termine
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public synchronized void detener() throws InterruptedException {
+        Thread actual = hilo;
+        hilo = null;
+        if (actual != null) {
+            actual.join();
+        }
+    }
+
+    /**
+     * Reconstruye la réplica desde una instantánea del líder
+     */
+    private void resincronizar() {
+        ReplicacionLider.Instantanea instantanea = lider.instantanea();
+        AVLTree nuevo = AVLTree.desdeOrdenados(instantanea.valores);
+
+        cerrojo.writeLock().lock();
+        try {
+            arbol = nuevo;
+            leidos = instantanea.secuencia;
+            resincronizaciones++;
+        } finally {
+            cerrojo.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Árbol AVL líder que publica sus cambios para réplicas de solo lectura.
+ *
+ * Cada inserción o eliminación efectiva se escribe, con su número de secuencia,
+ * en un BufferCambios sin bloqueos. Las réplicas (ReplicaSeguidora) aplican
+ * esos cambios por lotes y de forma asíncrona; si una réplica se queda más
+ * atrás que la capacidad del buffer, se pone al día desde una instantánea.
+ * El árbol líder solo debe modificarse a través de esta clase.
+ */
+public class ReplicacionLider implements OyenteCambios {
+    private static final int CAPACIDAD_POR_DEFECTO = 1 << 16;
+
+    private final AVLTree arbol;
+    private final BufferCambios buffer;
+
+    /**
+     * Instantánea consistente del líder: sus valores ordenados y el número de
+     * cambios publicados hasta ese momento
+     */
+    static class Instantanea {
+        final int[] valores;
+        final long secuencia;
+
+        Instantanea(int[] valores, long secuencia) {
+            this.valores = valores;
+            this.secuencia = secuencia;
+        }
+    }
+
+    /**
+     * Constructor para un líder vacío con la capacidad de buffer por defecto
+     */
+    public ReplicacionLider() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor para un líder vacío
+     * @param capacidadBuffer Cambios que puede retener el buffer antes de que
+     *                        una réplica rezagada deba resincronizarse
+     */
+    public ReplicacionLider(int capacidadBuffer) {
+        this.arbol = new AVLTree();
+        this.arbol.setVisualizacionAutomatica(false);
+        this.arbol.setOyenteCambios(this);
+        this.buffer = new BufferCambios(capacidadBuffer);
+    }
+
+    /**
+     * Inserta un valor en el líder y publica el cambio
+     * @param valor El valor a insertar
+     */
+    public synchronized void insertar(int valor) {
+        arbol.insertar(valor);
+    }
+
+    /**
+     * Elimina un valor del líder y publica el cambio
+     * @param valor El valor a eliminar
+     */
+    public synchronized void eliminar(int valor) {
+        arbol.eliminar(valor);
+    }
+
+    /**
+     * Elimina del líder todos los valores del rango [lo, hi] y publica el cambio
+     * @param lo Límite inferior (inclusivo)
+     * @param hi Límite superior (inclusivo)
+     * @return El número de valores eliminados
+     */
+    public synchronized int removeRange(int lo, int hi) {
+        return arbol.removeRange(lo, hi);
+    }
+
+    /**
+     * Busca un valor en el líder
+     * @param valor El valor a buscar
+     * @return true si el valor existe, false en caso contrario
+     */
+    public synchronized boolean buscar(int valor) {
+        return arbol.buscar(valor);
+    }
+
+    /**
+     * Obtiene el número de cambios publicados por el líder
+     * @return La secuencia del próximo cambio
+     */
+    public long getSecuencia() {
+        return buffer.publicados();
+    }
+
+    /**
+     * Crea una réplica que arranca desde el estado actual del líder
+     * @return La nueva réplica (sin hilo de aplicación iniciado)
+     */
+    public ReplicaSeguidora crearSeguidora() {
+        return new ReplicaSeguidora(this);
+    }
+
+    @Override
+    public void alInsertar(int valor) {
+        buffer.publicar(BufferCambios.INSERCION, valor);
+    }
+
+    @Override
+    public void alEliminar(int valor) {
+        buffer.publicar(BufferCambios.ELIMINACION, valor);
+    }
+
+    @Override
+    public void alEliminarRango(int desde, int hasta) {
+        buffer.publicarRango(desde, hasta);
+    }
+
+    /**
+     * Obtiene el buffer de cambios del líder
+     * @return El buffer compartido con las réplicas
+     */
+    BufferCambios getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Toma una instantánea consistente del líder (O(n), bloquea al líder
+     * mientras dura); solo se usa para poner al día réplicas rezagadas
+     * @return La instantánea
+     */
+    synchronized Instantanea instantanea() {
+        return new Instantanea(arbol.bottomK(Integer.MAX_VALUE).toArray(), buffer.publicados());
+    }
+}